@@ -0,0 +1,25 @@
+package com.pms.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts entity changes to every backend instance so in-process caches can be evicted.
+ * Events published inside a transaction are delivered only after it commits.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Announce that an entity changed
+     */
+    void publish(CacheInvalidationEvent.EntityType entityType, Long entityId);
+
+    /**
+     * Register a handler for events from all instances (including this one)
+     */
+    void subscribe(Consumer<CacheInvalidationEvent> handler);
+
+    /**
+     * Register a handler called when events may have been missed (e.g. after a reconnect)
+     */
+    void onResync(Runnable handler);
+}
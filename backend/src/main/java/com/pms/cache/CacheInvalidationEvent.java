@@ -0,0 +1,57 @@
+package com.pms.cache;
+
+/**
+ * A change to a cached entity that every backend instance must evict.
+ */
+public class CacheInvalidationEvent {
+
+    public enum EntityType {
+        USER, PROJECT, PROJECT_MEMBER
+    }
+
+    private final EntityType entityType;
+    private final Long entityId;
+    private final String originNodeId;
+
+    public CacheInvalidationEvent(EntityType entityType, Long entityId, String originNodeId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.originNodeId = originNodeId;
+    }
+
+    /**
+     * Encode as a NOTIFY payload: TYPE:id:node
+     */
+    public String toPayload() {
+        return entityType.name() + ":" + entityId + ":" + originNodeId;
+    }
+
+    public static CacheInvalidationEvent fromPayload(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cache invalidation payload: " + payload);
+        }
+        return new CacheInvalidationEvent(EntityType.valueOf(parts[0]), Long.valueOf(parts[1]), parts[2]);
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getOriginNodeId() {
+        return originNodeId;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidationEvent{" +
+                "entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", originNodeId='" + originNodeId + '\'' +
+                '}';
+    }
+}
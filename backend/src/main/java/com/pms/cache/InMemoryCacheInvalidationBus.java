@@ -0,0 +1,60 @@
+package com.pms.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM invalidation bus for tests and single-instance runs. Mirrors NOTIFY semantics:
+ * events are delivered after the surrounding transaction commits and dropped on rollback.
+ */
+@Component
+@ConditionalOnProperty(name = "pms.cache.invalidation.transport", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidationEvent>> handlers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncHandlers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationEvent.EntityType entityType, Long entityId) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent(entityType, entityId, nodeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(event);
+                }
+            });
+        } else {
+            deliver(event);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationEvent> handler) {
+        handlers.add(handler);
+    }
+
+    @Override
+    public void onResync(Runnable handler) {
+        resyncHandlers.add(handler);
+    }
+
+    /**
+     * Simulate a lost connection: handlers must assume events were missed
+     */
+    public void triggerResync() {
+        resyncHandlers.forEach(Runnable::run);
+    }
+
+    private void deliver(CacheInvalidationEvent event) {
+        handlers.forEach(handler -> handler.accept(event));
+    }
+}
@@ -0,0 +1,154 @@
+package com.pms.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus on PostgreSQL LISTEN/NOTIFY. Publishing runs pg_notify on the caller's
+ * transaction, so PostgreSQL only delivers the event once that transaction commits.
+ * Listening uses one dedicated connection outside the pool.
+ */
+@Component
+@ConditionalOnProperty(name = "pms.cache.invalidation.transport", havingValue = "postgres")
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidationEvent>> handlers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncHandlers = new CopyOnWriteArrayList<>();
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+
+    @Value("${pms.cache.invalidation.channel:pms_cache_invalidation}")
+    private String channel;
+
+    @Value("${pms.cache.invalidation.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${pms.cache.invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresCacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.publishedCounter = meterRegistry.counter("pms.cache.invalidation.published");
+        this.receivedCounter = meterRegistry.counter("pms.cache.invalidation.received");
+    }
+
+    @Override
+    public void publish(CacheInvalidationEvent.EntityType entityType, Long entityId) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent(entityType, entityId, nodeId);
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, channel, event.toPayload());
+        publishedCounter.increment();
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationEvent> handler) {
+        handlers.add(handler);
+    }
+
+    @Override
+    public void onResync(Runnable handler) {
+        resyncHandlers.add(handler);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread.join(pollTimeoutMs * 2L);
+        }
+    }
+
+    private void listenLoop() {
+        boolean firstConnect = true;
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel {}", channel);
+                if (!firstConnect) {
+                    // Notifications sent while disconnected are lost
+                    resyncHandlers.forEach(Runnable::run);
+                }
+                firstConnect = false;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}", reconnectDelayMs, e.getMessage());
+                firstConnect = false;
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            CacheInvalidationEvent event = CacheInvalidationEvent.fromPayload(payload);
+            receivedCounter.increment();
+            handlers.forEach(handler -> handler.accept(event));
+        } catch (RuntimeException e) {
+            log.error("Failed to handle cache invalidation payload '{}'", payload, e);
+        }
+    }
+
+    private Connection openListenerConnection() throws SQLException {
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+}
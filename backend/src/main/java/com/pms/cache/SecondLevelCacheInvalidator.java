@@ -0,0 +1,63 @@
+package com.pms.cache;
+
+import com.pms.entity.Project;
+import com.pms.entity.ProjectMember;
+import com.pms.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts second-level cache entries when any instance reports a change, so reads never serve
+ * a value older than the last committed write. Cached query results are dropped as a whole
+ * because they cannot be mapped back to single entities.
+ */
+@Component
+public class SecondLevelCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+
+    private final CacheInvalidationBus bus;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public SecondLevelCacheInvalidator(CacheInvalidationBus bus, EntityManagerFactory entityManagerFactory) {
+        this.bus = bus;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void register() {
+        bus.subscribe(this::evict);
+        bus.onResync(this::evictAll);
+    }
+
+    void evict(CacheInvalidationEvent event) {
+        Cache cache = cache();
+        cache.evictEntityData(entityClass(event.getEntityType()), event.getEntityId());
+        cache.evictDefaultQueryRegion();
+        log.debug("Evicted {}", event);
+    }
+
+    void evictAll() {
+        cache().evictAllRegions();
+        log.info("Evicted all second-level cache regions after invalidation resync");
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private static Class<?> entityClass(CacheInvalidationEvent.EntityType entityType) {
+        return switch (entityType) {
+            case USER -> User.class;
+            case PROJECT -> Project.class;
+            case PROJECT_MEMBER -> ProjectMember.class;
+        };
+    }
+}
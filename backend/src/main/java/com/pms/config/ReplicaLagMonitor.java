@@ -0,0 +1,116 @@
+package com.pms.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures replication lag on the replica. While the lag is above the
+ * configured tolerance (or cannot be measured) read-only transactions go to the primary.
+ * Checks run on their own thread so long @Scheduled jobs cannot delay them, and a reading older
+ * than a few check intervals counts as unmeasured.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /** Check intervals after which the last lag reading is too old to route reads on */
+    private static final int STALE_AFTER_INTERVALS = 3;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long checkIntervalMs;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile double lastLagSeconds = 0.0;
+    private volatile boolean replicaUsable = false;
+    private volatile long lastCheckNanos;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, double maxLagSeconds, long checkIntervalMs,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        // A hanging lag query must not hold the monitor thread past the point where its reading goes stale
+        this.replicaJdbcTemplate.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(checkIntervalMs)));
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = checkIntervalMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("pms.datasource.replica.lag", this, monitor -> monitor.lastLagSeconds)
+                .description("Replication lag of the read replica in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("pms.datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("1 when read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start checking the lag (not at all when no lag query is configured; the replica is then always used)
+     */
+    @PostConstruct
+    public void start() {
+        if (isLagMonitored()) {
+            scheduler.scheduleWithFixedDelay(this::checkLag, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Refresh the replica lag
+     */
+    private void checkLag() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            lastLagSeconds = lag != null ? lag : 0.0;
+            lastCheckNanos = System.nanoTime();
+            updateUsable(lastLagSeconds <= maxLagSeconds);
+        } catch (Exception e) {
+            log.warn("Could not measure replica lag, routing reads to primary: {}", e.getMessage());
+            updateUsable(false);
+        }
+    }
+
+    /**
+     * Whether read-only transactions may use the replica: the last lag reading is within tolerance and recent
+     */
+    public boolean isReplicaUsable() {
+        if (!isLagMonitored()) {
+            return true;
+        }
+        long age = System.nanoTime() - lastCheckNanos;
+        return replicaUsable && age <= TimeUnit.MILLISECONDS.toNanos(checkIntervalMs * STALE_AFTER_INTERVALS);
+    }
+
+    private boolean isLagMonitored() {
+        return lagQuery != null && !lagQuery.isBlank();
+    }
+
+    private void updateUsable(boolean usable) {
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica lag {}s within tolerance, routing reads to replica", lastLagSeconds);
+            } else {
+                log.warn("Replica lag {}s exceeds tolerance of {}s, routing reads to primary", lastLagSeconds, maxLagSeconds);
+            }
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,119 @@
+package com.pms.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for reference entities (users, projects, memberships)
+ * and cached queries, backed by in-process Caffeine caches.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String PROJECTS_REGION = "projects";
+    public static final String PROJECT_MEMBERS_REGION = "project-members";
+
+    private static final List<String> ENTITY_REGIONS = List.of(USERS_REGION, PROJECTS_REGION, PROJECT_MEMBERS_REGION);
+
+    @Value("${pms.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pms.cache.entities.ttl:10m}")
+    private Duration entityTtl;
+
+    @Value("${pms.cache.entities.max-size:10000}")
+    private long entityMaxSize;
+
+    @Value("${pms.cache.queries.ttl:5m}")
+    private Duration queryTtl;
+
+    @Value("${pms.cache.queries.max-size:10000}")
+    private long queryMaxSize;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : ENTITY_REGIONS) {
+            createCache(cacheManager, region, entityTtl, entityMaxSize);
+        }
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryTtl, queryMaxSize);
+        // Update timestamps must outlive every cached query result, so this region never expires
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null, null);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+        };
+    }
+
+    /**
+     * Export hit/miss counters per region plus a derived hit ratio (pms.cache.hit.ratio)
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String name : hibernateCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(name));
+                Gauge.builder("pms.cache.hit.ratio", registry, r -> hitRatio(r, name))
+                        .description("Second-level cache hit ratio")
+                        .tag("cache", name)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(MeterRegistry registry, String cacheName) {
+        double hits = cacheGets(registry, cacheName, "hit");
+        double misses = cacheGets(registry, cacheName, "miss");
+        double total = hits + misses;
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private static double cacheGets(MeterRegistry registry, String cacheName, String result) {
+        FunctionCounter counter = registry.find("cache.gets").tags("cache", cacheName, "result", result).functionCounter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private static void createCache(CacheManager cacheManager, String name, Duration ttl, Long maxSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        configuration.setStatisticsEnabled(true);
+        if (cacheManager.getCache(name) == null) {
+            cacheManager.createCache(name, configuration);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.pms.config;
 
 import com.pms.security.JwtAuthenticationFilter;
 import com.pms.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,10 +35,14 @@ public class SecurityConfig {
             .cors(cors -> cors.and())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Streaming responses complete on an async dispatch; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 // Swagger UI and OpenAPI documentation endpoints
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/v3/api-docs.yaml").permitAll()
                 // Authentication endpoints
                 .requestMatchers("/api/auth/**").permitAll()
+                // WebSocket handshake; STOMP CONNECT carries the JWT (see StompAuthChannelInterceptor)
+                .requestMatchers("/api/ws/**").permitAll()
                 // All other API endpoints require authentication
                 .requestMatchers("/api/**").authenticated()
                 .anyRequest().authenticated()
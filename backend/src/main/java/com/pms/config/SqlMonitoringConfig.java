@@ -0,0 +1,45 @@
+package com.pms.config;
+
+import com.pms.monitoring.SqlMonitoringInterceptor;
+import com.pms.monitoring.SqlStatementCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlMonitoringConfig implements WebMvcConfigurer {
+
+    private final SqlMonitoringInterceptor sqlMonitoringInterceptor;
+
+    public SqlMonitoringConfig(SqlMonitoringInterceptor sqlMonitoringInterceptor) {
+        this.sqlMonitoringInterceptor = sqlMonitoringInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlMonitoringInterceptor).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Wraps the application data source so statements from Hibernate and JdbcTemplate are counted alike.
+     * Only the bean named dataSource is wrapped; the primary and replica pools behind the routing data
+     * source stay unwrapped so no statement is counted twice
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (beanName.equals("dataSource") && bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package com.pms.controller;
 
 import com.pms.dto.CommentDto;
+import com.pms.dto.CommentThreadDto;
+import com.pms.dto.CursorPage;
 import com.pms.entity.User;
+import com.pms.monitoring.SqlBudget;
 import com.pms.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,7 +22,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api")
@@ -117,12 +119,14 @@ public class CommentController {
     }
 
     /**
-     * Get all comments for a task
+     * Get a page of comments for a task
      */
     @GetMapping("/tasks/{taskId}/comments")
     @Operation(
         summary = "Get comments by task",
-        description = "Retrieves all comments for a specific task. User must have access to the task's project."
+        description = "Retrieves comments for a specific task, newest first, one page at a time. " +
+                      "Pass the returned nextCursor to fetch the following page. With view=compact, comments carry only " +
+                      "the author ID and the task header and authors are returned once. User must have access to the task's project."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -130,34 +134,60 @@ public class CommentController {
             description = "Comments retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = CommentDto.class),
-                examples = @ExampleObject(
+                schema = @Schema(oneOf = {CursorPage.class, CommentThreadDto.class}),
+                examples = {@ExampleObject(
                     name = "Success Response",
                     value = """
-                        [
-                          {
-                            "id": 1,
-                            "content": "Great progress on the design!",
-                            "taskId": 1,
-                            "userId": 2,
-                            "userName": "Jane Smith",
-                            "createdAt": "2024-01-15T10:00:00Z",
-                            "updatedAt": "2024-01-15T10:00:00Z"
+                        {
+                          "items": [
+                            {
+                              "id": 2,
+                              "text": "The layout looks perfect!",
+                              "taskId": 1,
+                              "userId": 1,
+                              "userName": "John Doe",
+                              "createdAt": "2024-01-15T11:00:00",
+                              "updatedAt": "2024-01-15T11:00:00"
+                            },
+                            {
+                              "id": 1,
+                              "text": "Great progress on the design!",
+                              "taskId": 1,
+                              "userId": 2,
+                              "userName": "Jane Smith",
+                              "createdAt": "2024-01-15T10:00:00",
+                              "updatedAt": "2024-01-15T10:00:00"
+                            }
+                          ],
+                          "nextCursor": "MjAyNC0wMS0xNVQxMDowMHwx",
+                          "hasMore": true
+                        }
+                        """
+                ), @ExampleObject(
+                    name = "Compact Response",
+                    value = """
+                        {
+                          "taskId": 1,
+                          "taskTitle": "Design Homepage",
+                          "users": {
+                            "1": { "id": 1, "name": "John Doe", "email": "john@example.com", "role": "USER" },
+                            "2": { "id": 2, "name": "Jane Smith", "email": "jane@example.com", "role": "USER" }
                           },
-                          {
-                            "id": 2,
-                            "content": "The layout looks perfect!",
-                            "taskId": 1,
-                            "userId": 1,
-                            "userName": "John Doe",
-                            "createdAt": "2024-01-15T11:00:00Z",
-                            "updatedAt": "2024-01-15T11:00:00Z"
-                          }
-                        ]
+                          "items": [
+                            { "id": 2, "userId": 1, "text": "The layout looks perfect!", "createdAt": "2024-01-15T11:00:00", "updatedAt": "2024-01-15T11:00:00" },
+                            { "id": 1, "userId": 2, "text": "Great progress on the design!", "createdAt": "2024-01-15T10:00:00", "updatedAt": "2024-01-15T10:00:00" }
+                          ],
+                          "nextCursor": "MjAyNC0wMS0xNVQxMDowMHwx",
+                          "hasMore": true
+                        }
                         """
-                )
+                )}
             )
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid cursor or view"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Task not found or access denied"
@@ -167,13 +197,33 @@ public class CommentController {
             description = "Unauthorized - invalid or missing token"
         )
     })
-    public ResponseEntity<List<CommentDto>> getCommentsByTaskId(
+    @SqlBudget(5)
+    public ResponseEntity<?> getCommentsByTaskId(
         @Parameter(description = "Task ID", example = "1")
-        @PathVariable Long taskId
+        @PathVariable Long taskId,
+        @Parameter(description = "Cursor from the previous page; omit for the newest comments")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (default 20, max 100)", example = "20")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Response shape: full (default) or compact", example = "compact")
+        @RequestParam(defaultValue = "full") String view
     ) {
         User currentUser = getCurrentUser();
-        List<CommentDto> comments = commentService.getCommentsByTaskId(taskId, currentUser);
-        return ResponseEntity.ok(comments);
+        try {
+            if ("compact".equalsIgnoreCase(view)) {
+                return commentService.getCommentThreadByTaskId(taskId, cursor, limit, currentUser)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build());
+            }
+            if (!"full".equalsIgnoreCase(view)) {
+                return ResponseEntity.badRequest().build();
+            }
+            return commentService.getCommentsByTaskId(taskId, cursor, limit, currentUser)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -320,12 +370,12 @@ public class CommentController {
     }
 
     /**
-     * Get all comments by current user
+     * Get a page of comments by current user
      */
     @GetMapping("/users/me/comments")
     @Operation(
         summary = "Get my comments",
-        description = "Retrieves all comments created by the current user across all tasks."
+        description = "Retrieves comments created by the current user across all tasks, newest first, one page at a time."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -333,18 +383,31 @@ public class CommentController {
             description = "Comments retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = CommentDto.class)
+                schema = @Schema(implementation = CursorPage.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid cursor"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
         )
     })
-    public ResponseEntity<List<CommentDto>> getCommentsByCurrentUser() {
+    @SqlBudget(3)
+    public ResponseEntity<CursorPage<CommentDto>> getCommentsByCurrentUser(
+        @Parameter(description = "Cursor from the previous page; omit for the newest comments")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (default 20, max 100)", example = "20")
+        @RequestParam(required = false) Integer limit
+    ) {
         User currentUser = getCurrentUser();
-        List<CommentDto> comments = commentService.getCommentsByCurrentUser(currentUser);
-        return ResponseEntity.ok(comments);
+        try {
+            return ResponseEntity.ok(commentService.getCommentsByCurrentUser(cursor, limit, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
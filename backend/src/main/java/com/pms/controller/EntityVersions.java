@@ -0,0 +1,39 @@
+package com.pms.controller;
+
+/**
+ * Optimistic locking preconditions. Task, project and milestone versions are sent as ETag headers and
+ * come back either as If-Match or as the version field of the request body.
+ */
+final class EntityVersions {
+
+    private EntityVersions() {}
+
+    /**
+     * The version an update is based on: If-Match takes precedence over the body, and neither (or If-Match: *)
+     * means the update is unconditional. Throws IllegalArgumentException for an If-Match value that is not a version
+     */
+    static Long expected(String ifMatch, Long bodyVersion) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return bodyVersion;
+        }
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single entity version", e);
+        }
+    }
+
+    static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+}
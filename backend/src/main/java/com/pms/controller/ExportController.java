@@ -0,0 +1,99 @@
+package com.pms.controller;
+
+import com.pms.entity.User;
+import com.pms.service.ExportService;
+import com.pms.service.FileFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/exports")
+@Tag(name = "Exports", description = "Streaming CSV/NDJSON exports of projects, tasks and time entries")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Stream a full export of one dataset
+     */
+    @GetMapping("/{dataset}")
+    @Operation(
+        summary = "Export dataset",
+        description = "Streams every visible row of projects, tasks or time-entries as CSV (with header) or NDJSON " +
+                      "(one JSON object per line). Admins export everything; other users export their own and public projects " +
+                      "and the tasks and time entries in them."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Export streamed",
+            content = {
+                @Content(mediaType = "text/csv"),
+                @Content(mediaType = "application/x-ndjson")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - unknown dataset or format"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+        @Parameter(description = "projects, tasks or time-entries", example = "tasks")
+        @PathVariable String dataset,
+        @Parameter(description = "csv (default) or ndjson", example = "ndjson")
+        @RequestParam(defaultValue = "csv") String format
+    ) {
+        User currentUser = getCurrentUser();
+        ExportService.Dataset exportDataset;
+        FileFormat exportFormat;
+        try {
+            exportDataset = ExportService.Dataset.parse(dataset);
+            exportFormat = FileFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> exportService.export(exportDataset, exportFormat, currentUser, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat == FileFormat.CSV ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportDataset.fileName() + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Get current authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return (User) authentication.getPrincipal();
+        }
+        throw new RuntimeException("User not authenticated");
+    }
+}
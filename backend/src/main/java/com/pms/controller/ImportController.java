@@ -0,0 +1,102 @@
+package com.pms.controller;
+
+import com.pms.dto.ImportResultDto;
+import com.pms.entity.User;
+import com.pms.service.FileFormat;
+import com.pms.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/imports")
+@Tag(name = "Imports", description = "Bulk CSV/NDJSON imports of projects and tasks")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @Autowired
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Import projects or tasks from an uploaded file
+     */
+    @PostMapping(value = "/{dataset}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Import dataset",
+        description = "Imports projects or tasks from a CSV file with a header row or an NDJSON file (one JSON object per line). " +
+                      "Projects: name, description, start_date, end_date, visibility. " +
+                      "Tasks: title, description, priority, status, due_date, project_id or project_name, assignee_email " +
+                      "(defaults to the current user). Rows are imported in chunks; invalid rows are reported and skipped."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ImportResultDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - unknown dataset or format, or empty file"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<ImportResultDto> importFile(
+        @Parameter(description = "projects or tasks", example = "tasks")
+        @PathVariable String dataset,
+        @Parameter(description = "CSV or NDJSON file")
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "csv or ndjson; inferred from the file name if omitted", example = "csv")
+        @RequestParam(required = false) String format
+    ) throws IOException {
+        User currentUser = getCurrentUser();
+        ImportService.Dataset importDataset;
+        FileFormat importFormat;
+        try {
+            importDataset = ImportService.Dataset.parse(dataset);
+            importFormat = format != null ? FileFormat.parse(format) : FileFormat.fromFileName(file.getOriginalFilename());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importFile(importDataset, importFormat, inputStream, currentUser));
+        }
+    }
+
+    /**
+     * Get current authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return (User) authentication.getPrincipal();
+        }
+        throw new RuntimeException("User not authenticated");
+    }
+}
@@ -1,7 +1,9 @@
 package com.pms.controller;
 
 import com.pms.dto.MilestoneDto;
+import com.pms.dto.MilestoneProgressDto;
 import com.pms.entity.User;
+import com.pms.monitoring.SqlBudget;
 import com.pms.service.MilestoneService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,13 +15,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -142,7 +147,7 @@ public class MilestoneController {
     ) {
         User currentUser = getCurrentUser();
         return milestoneService.getMilestoneById(id, currentUser)
-                .map(ResponseEntity::ok)
+                .map(milestone -> ResponseEntity.ok().eTag(EntityVersions.eTag(milestone.getVersion())).body(milestone))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -257,6 +262,10 @@ public class MilestoneController {
             responseCode = "404",
             description = "Milestone not found or access denied"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
@@ -269,6 +278,8 @@ public class MilestoneController {
     public ResponseEntity<MilestoneDto> updateMilestone(
         @Parameter(description = "Milestone ID", example = "1")
         @PathVariable Long id,
+        @Parameter(description = "Version the update is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Parameter(
             description = "Updated milestone details",
             required = true
@@ -276,9 +287,15 @@ public class MilestoneController {
         @Valid @RequestBody MilestoneDto milestoneDto
     ) {
         User currentUser = getCurrentUser();
-        return milestoneService.updateMilestone(id, milestoneDto, currentUser)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return milestoneService.updateMilestone(id, milestoneDto, EntityVersions.expected(ifMatch, milestoneDto.getVersion()), currentUser)
+                    .map(milestone -> ResponseEntity.ok().eTag(EntityVersions.eTag(milestone.getVersion())).body(milestone))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
     }
 
     /**
@@ -340,6 +357,10 @@ public class MilestoneController {
             responseCode = "404",
             description = "Milestone not found or access denied"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
@@ -351,12 +372,20 @@ public class MilestoneController {
     })
     public ResponseEntity<MilestoneDto> toggleMilestoneCompletion(
         @Parameter(description = "Milestone ID", example = "1")
-        @PathVariable Long id
+        @PathVariable Long id,
+        @Parameter(description = "Version the toggle is based on, as returned in the ETag header (e.g. \"3\")")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         User currentUser = getCurrentUser();
-        return milestoneService.toggleMilestoneCompletion(id, currentUser)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return milestoneService.toggleMilestoneCompletion(id, EntityVersions.expected(ifMatch, null), currentUser)
+                    .map(milestone -> ResponseEntity.ok().eTag(EntityVersions.eTag(milestone.getVersion())).body(milestone))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
     }
 
     /**
@@ -467,6 +496,59 @@ public class MilestoneController {
         return ResponseEntity.ok(progress);
     }
 
+    /**
+     * Get milestone progress for many projects at once
+     */
+    @GetMapping("/milestones/progress")
+    @SqlBudget(2)
+    @Operation(
+        summary = "Get milestone progress for several projects",
+        description = "Returns completed and total milestone counts and the completion percentage for each requested project, " +
+                      "keyed by project ID, computed with a single aggregate query. Projects that do not exist or are not " +
+                      "accessible are omitted. At most " + MilestoneService.MAX_PROGRESS_PROJECTS + " project IDs per request."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Milestone progress retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"1\": {\"projectId\": 1, \"completed\": 1, \"total\": 4, \"progress\": 25.0}}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - too many project IDs"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<Map<Long, MilestoneProgressDto>> getMilestoneProgressBatch(
+        @Parameter(description = "Comma-separated project IDs", example = "1,2,3")
+        @RequestParam List<Long> projectIds
+    ) {
+        User currentUser = getCurrentUser();
+        try {
+            return ResponseEntity.ok(milestoneService.getMilestoneProgress(projectIds, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 409 with the current state, so the client can merge and retry without another GET
+     */
+    private ResponseEntity<MilestoneDto> conflict(Long id, User currentUser) {
+        return milestoneService.getLatestMilestoneById(id, currentUser)
+                .map(milestone -> ResponseEntity.status(HttpStatus.CONFLICT).eTag(EntityVersions.eTag(milestone.getVersion())).body(milestone))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Get current authenticated user
      */
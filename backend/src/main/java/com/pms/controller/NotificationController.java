@@ -1,7 +1,10 @@
 package com.pms.controller;
 
+import com.pms.dto.CursorPage;
 import com.pms.dto.NotificationDto;
+import com.pms.dto.NotificationReadRequest;
 import com.pms.entity.User;
+import com.pms.monitoring.SqlBudget;
 import com.pms.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,7 +20,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -33,12 +35,15 @@ public class NotificationController {
     }
 
     /**
-     * Get all notifications for current user
+     * Get a page of notifications for current user
      */
     @GetMapping("/notifications")
+    @SqlBudget(1)
     @Operation(
-        summary = "Get all notifications",
-        description = "Retrieves all notifications for the current user, including both read and unread notifications."
+        summary = "Get notifications",
+        description = "Retrieves a page of the current user's notifications, newest first, optionally filtered by type " +
+                      "and read status. Pass nextCursor from the previous page as cursor to continue, with the same filters. " +
+                      "Only notifications from the history window (90 days by default) are listed; older ones are archived."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -46,50 +51,78 @@ public class NotificationController {
             description = "Notifications retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = NotificationDto.class),
+                schema = @Schema(implementation = CursorPage.class),
                 examples = @ExampleObject(
                     name = "Success Response",
                     value = """
-                        [
-                          {
-                            "id": 1,
-                            "userId": 2,
-                            "message": "You have been assigned to task: Design Homepage",
-                            "type": "TASK_ASSIGNMENT",
-                            "isRead": false,
-                            "createdAt": "2024-01-15T10:00:00Z"
-                          },
-                          {
-                            "id": 2,
-                            "userId": 2,
-                            "message": "Task 'Design Homepage' has been completed",
-                            "type": "TASK_COMPLETED",
-                            "isRead": true,
-                            "createdAt": "2024-01-14T15:30:00Z"
-                          }
-                        ]
+                        {
+                          "items": [
+                            {
+                              "id": 2,
+                              "userId": 2,
+                              "userName": "Jane Smith",
+                              "message": "3 new comments on task 'Design Homepage', latest from John Doe",
+                              "read": false,
+                              "createdAt": "2024-01-15T11:00:00",
+                              "type": "COMMENT_ADDED",
+                              "taskId": 5,
+                              "eventCount": 3,
+                              "lastEventAt": "2024-01-15T11:40:00"
+                            },
+                            {
+                              "id": 1,
+                              "userId": 2,
+                              "userName": "Jane Smith",
+                              "message": "You have been assigned to task 'Design Homepage' in project 'Website'",
+                              "read": true,
+                              "createdAt": "2024-01-15T10:00:00",
+                              "type": "TASK_ASSIGNED",
+                              "taskId": 5,
+                              "eventCount": 1
+                            }
+                          ],
+                          "nextCursor": "MjAyNC0wMS0xNVQxMDowMHwx",
+                          "hasMore": true
+                        }
                         """
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid cursor or filter"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
         )
     })
-    public ResponseEntity<List<NotificationDto>> getNotifications() {
+    public ResponseEntity<CursorPage<NotificationDto>> getNotifications(
+        @Parameter(description = "Cursor from the previous page (nextCursor)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (default 20, max 100)", example = "20")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Only notifications of this type", example = "COMMENT_ADDED")
+        @RequestParam(required = false) NotificationDto.Type type,
+        @Parameter(description = "Only read (true) or unread (false) notifications", example = "false")
+        @RequestParam(required = false) Boolean read
+    ) {
         User currentUser = getCurrentUser();
-        List<NotificationDto> notifications = notificationService.getNotificationsByCurrentUser(currentUser);
-        return ResponseEntity.ok(notifications);
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationsByCurrentUser(cursor, limit, type, read, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
-     * Get unread notifications for current user
+     * Get a page of unread notifications for current user
      */
     @GetMapping("/notifications/unread")
+    @SqlBudget(1)
     @Operation(
         summary = "Get unread notifications",
-        description = "Retrieves only unread notifications for the current user."
+        description = "Retrieves a page of the current user's unread notifications from the history window, newest first."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -97,41 +130,32 @@ public class NotificationController {
             description = "Unread notifications retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = NotificationDto.class),
-                examples = @ExampleObject(
-                    name = "Success Response",
-                    value = """
-                        [
-                          {
-                            "id": 1,
-                            "userId": 2,
-                            "message": "You have been assigned to task: Design Homepage",
-                            "type": "TASK_ASSIGNMENT",
-                            "isRead": false,
-                            "createdAt": "2024-01-15T10:00:00Z"
-                          },
-                          {
-                            "id": 3,
-                            "userId": 2,
-                            "message": "New comment on task: Design Homepage",
-                            "type": "COMMENT_ADDED",
-                            "isRead": false,
-                            "createdAt": "2024-01-15T11:00:00Z"
-                          }
-                        ]
-                        """
-                )
+                schema = @Schema(implementation = CursorPage.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid cursor or filter"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
         )
     })
-    public ResponseEntity<List<NotificationDto>> getUnreadNotifications() {
+    public ResponseEntity<CursorPage<NotificationDto>> getUnreadNotifications(
+        @Parameter(description = "Cursor from the previous page (nextCursor)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (default 20, max 100)", example = "20")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Only notifications of this type", example = "COMMENT_ADDED")
+        @RequestParam(required = false) NotificationDto.Type type
+    ) {
         User currentUser = getCurrentUser();
-        List<NotificationDto> notifications = notificationService.getUnreadNotificationsByCurrentUser(currentUser);
-        return ResponseEntity.ok(notifications);
+        try {
+            return ResponseEntity.ok(notificationService.getUnreadNotificationsByCurrentUser(cursor, limit, type, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -168,6 +192,66 @@ public class NotificationController {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Mark many notifications as read for current user
+     */
+    @PutMapping("/notifications/read")
+    @SqlBudget(2)
+    @Operation(
+        summary = "Mark notifications as read in bulk",
+        description = "Marks the listed notifications, or every notification whose latest event is up to a timestamp, as read in one update. " +
+                      "Returns how many notifications changed and the new unread count, so clients can update their badge " +
+                      "without fetching the count again."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Notifications marked as read successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = """
+                        {
+                          "updated": 3,
+                          "unreadCount": 1
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - neither or both of ids and upTo given, or too many ids"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<Map<String, Object>> markNotificationsAsRead(
+        @Parameter(
+            description = "Notification IDs, or a timestamp to mark everything up to",
+            required = true,
+            content = @Content(
+                examples = {
+                    @ExampleObject(name = "By IDs", value = "{ \"ids\": [3, 5, 8] }"),
+                    @ExampleObject(name = "Up to timestamp", value = "{ \"upTo\": \"2024-01-15T11:00:00\" }")
+                }
+            )
+        )
+        @RequestBody NotificationReadRequest request
+    ) {
+        User currentUser = getCurrentUser();
+        try {
+            int updated = notificationService.markNotificationsAsRead(request, currentUser);
+            long unreadCount = notificationService.getUnreadNotificationCount(currentUser);
+            return ResponseEntity.ok(Map.of("updated", updated, "unreadCount", unreadCount));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Mark all notifications as read for current user
      */
@@ -205,7 +289,7 @@ public class NotificationController {
     @GetMapping("/notifications/unread-count")
     @Operation(
         summary = "Get unread notification count",
-        description = "Retrieves the count of unread notifications for the current user."
+        description = "Retrieves the count of unread notifications from the history window for the current user."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -230,6 +314,7 @@ public class NotificationController {
             description = "Unauthorized - invalid or missing token"
         )
     })
+    @SqlBudget(2)
     public ResponseEntity<Map<String, Object>> getUnreadNotificationCount() {
         User currentUser = getCurrentUser();
         long count = notificationService.getUnreadNotificationCount(currentUser);
@@ -1,6 +1,7 @@
 package com.pms.controller;
 
 import com.pms.dto.ProjectDto;
+import com.pms.dto.MergePatch;
 import com.pms.dto.AddMemberRequest;
 import com.pms.dto.UserDto;
 import com.pms.entity.Project;
@@ -16,8 +17,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -144,7 +148,7 @@ public class ProjectController {
     ) {
         User currentUser = getCurrentUser();
         return projectService.getProjectById(id, currentUser)
-                .map(ResponseEntity::ok)
+                .map(project -> ResponseEntity.ok().eTag(EntityVersions.eTag(project.getVersion())).body(project))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -251,6 +255,10 @@ public class ProjectController {
             responseCode = "404",
             description = "Project not found or access denied"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
@@ -263,6 +271,8 @@ public class ProjectController {
     public ResponseEntity<ProjectDto> updateProject(
         @Parameter(description = "Project ID", example = "1")
         @PathVariable Long id,
+        @Parameter(description = "Version the update is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Parameter(
             description = "Updated project details",
             required = true
@@ -270,9 +280,72 @@ public class ProjectController {
         @Valid @RequestBody ProjectDto projectDto
     ) {
         User currentUser = getCurrentUser();
-        return projectService.updateProject(id, projectDto, currentUser)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return projectService.updateProject(id, projectDto, EntityVersions.expected(ifMatch, projectDto.getVersion()), currentUser)
+                    .map(project -> ResponseEntity.ok().eTag(EntityVersions.eTag(project.getVersion())).body(project))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
+    }
+
+    /**
+     * Partially update a project with a JSON Merge Patch
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Patch project",
+        description = "Updates only the fields present in a JSON Merge Patch (RFC 7386); null clears a field. Patchable fields: name, description, startDate, endDate, visibility."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Project updated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - unknown field or invalid value"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Project not found or access denied"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<ProjectDto> patchProject(
+        @Parameter(description = "Project ID", example = "1")
+        @PathVariable Long id,
+        @Parameter(description = "Version the update is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Parameter(
+            description = "Fields to change",
+            required = true
+        )
+        @RequestBody MergePatch patch
+    ) {
+        User currentUser = getCurrentUser();
+        try {
+            return projectService.patchProject(id, patch, EntityVersions.expected(ifMatch, patch.getVersion()), currentUser)
+                    .map(project -> ResponseEntity.ok().eTag(EntityVersions.eTag(project.getVersion())).body(project))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
     }
 
     /**
@@ -535,6 +608,15 @@ public class ProjectController {
         return ResponseEntity.badRequest().build();
     }
 
+    /**
+     * 409 with the current state, so the client can merge and retry without another GET
+     */
+    private ResponseEntity<ProjectDto> conflict(Long id, User currentUser) {
+        return projectService.getLatestProjectById(id, currentUser)
+                .map(project -> ResponseEntity.status(HttpStatus.CONFLICT).eTag(EntityVersions.eTag(project.getVersion())).body(project))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Get current authenticated user
      */
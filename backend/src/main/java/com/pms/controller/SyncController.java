@@ -0,0 +1,95 @@
+package com.pms.controller;
+
+import com.pms.dto.SyncResponse;
+import com.pms.entity.User;
+import com.pms.monitoring.SqlBudget;
+import com.pms.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/sync")
+@Tag(name = "Sync", description = "Delta sync of projects, tasks, comments and milestones")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Get changes since a cursor
+     */
+    @GetMapping
+    @SqlBudget(6)
+    @Operation(
+        summary = "Get changes since cursor",
+        description = "Returns the projects, tasks, comments and milestones visible to the current user that changed after the cursor, " +
+                      "one entry per entity with its current state. Call without since to get a starting cursor, and keep calling with " +
+                      "the returned cursor while hasMore is true. Cursors older than the change log retention are rejected with 410; " +
+                      "the client must then reload in full."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SyncResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - malformed cursor"
+        ),
+        @ApiResponse(
+            responseCode = "410",
+            description = "Cursor expired - reload in full and start again without since"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<SyncResponse> getChanges(
+        @Parameter(description = "Cursor from an earlier response; omit to start syncing")
+        @RequestParam(required = false) String since,
+        @Parameter(description = "Maximum change log entries to read (1-1000)", example = "500")
+        @RequestParam(required = false) Integer limit
+    ) {
+        User currentUser = getCurrentUser();
+        Optional<SyncResponse> changes;
+        try {
+            changes = syncService.getChanges(since, limit, currentUser);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return changes.map(ResponseEntity::ok).orElse(ResponseEntity.status(HttpStatus.GONE).build());
+    }
+
+    /**
+     * Get current authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return (User) authentication.getPrincipal();
+        }
+        throw new RuntimeException("User not authenticated");
+    }
+}
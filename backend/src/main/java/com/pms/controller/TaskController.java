@@ -1,7 +1,9 @@
 package com.pms.controller;
 
 import com.pms.dto.TaskDto;
+import com.pms.dto.MergePatch;
 import com.pms.dto.StatusUpdateRequest;
+import com.pms.dto.TaskMoveRequest;
 import com.pms.entity.User;
 import com.pms.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +16,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -140,7 +145,7 @@ public class TaskController {
     ) {
         User currentUser = getCurrentUser();
         return taskService.getTaskById(id, currentUser)
-                .map(ResponseEntity::ok)
+                .map(task -> ResponseEntity.ok().eTag(EntityVersions.eTag(task.getVersion())).body(task))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -257,6 +262,10 @@ public class TaskController {
             responseCode = "404",
             description = "Task not found or access denied"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
@@ -269,6 +278,8 @@ public class TaskController {
     public ResponseEntity<TaskDto> updateTask(
         @Parameter(description = "Task ID", example = "1")
         @PathVariable Long id,
+        @Parameter(description = "Version the update is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Parameter(
             description = "Updated task details",
             required = true
@@ -276,9 +287,72 @@ public class TaskController {
         @Valid @RequestBody TaskDto taskDto
     ) {
         User currentUser = getCurrentUser();
-        return taskService.updateTask(id, taskDto, currentUser)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return taskService.updateTask(id, taskDto, EntityVersions.expected(ifMatch, taskDto.getVersion()), currentUser)
+                    .map(task -> ResponseEntity.ok().eTag(EntityVersions.eTag(task.getVersion())).body(task))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
+    }
+
+    /**
+     * Partially update a task with a JSON Merge Patch
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Patch task",
+        description = "Updates only the fields present in a JSON Merge Patch (RFC 7386); null clears a field. Patchable fields: title, description, priority, status, dueDate, assignedToId."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task updated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - unknown field or invalid value"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found or access denied"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<TaskDto> patchTask(
+        @Parameter(description = "Task ID", example = "1")
+        @PathVariable Long id,
+        @Parameter(description = "Version the update is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Parameter(
+            description = "Fields to change",
+            required = true
+        )
+        @RequestBody MergePatch patch
+    ) {
+        User currentUser = getCurrentUser();
+        try {
+            return taskService.patchTask(id, patch, EntityVersions.expected(ifMatch, patch.getVersion()), currentUser)
+                    .map(task -> ResponseEntity.ok().eTag(EntityVersions.eTag(task.getVersion())).body(task))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
     }
 
     /**
@@ -306,6 +380,10 @@ public class TaskController {
             responseCode = "400",
             description = "Invalid status value"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - invalid or missing token"
@@ -318,6 +396,8 @@ public class TaskController {
     public ResponseEntity<TaskDto> updateTaskStatus(
         @Parameter(description = "Task ID", example = "1")
         @PathVariable Long id,
+        @Parameter(description = "Version the update is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Parameter(
             description = "New status",
             required = true,
@@ -335,9 +415,85 @@ public class TaskController {
         @RequestBody StatusUpdateRequest request
     ) {
         User currentUser = getCurrentUser();
-        return taskService.updateTaskStatus(id, request.getStatus(), currentUser)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return taskService.updateTaskStatus(id, request.getStatus(),
+                            EntityVersions.expected(ifMatch, request.getVersion()), currentUser)
+                    .map(task -> ResponseEntity.ok().eTag(EntityVersions.eTag(task.getVersion())).body(task))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
+    }
+
+    /**
+     * Move a task on the board
+     */
+    @PutMapping("/{id}/position")
+    @Operation(
+        summary = "Move task",
+        description = "Places a task right after previousTaskId, right before nextTaskId, or at the end of its column, optionally " +
+                      "moving it to another status column. Only the moved task is updated; list a column in board order by sorting on rank."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task moved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found or access denied"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neighbour task not in the target column, or both neighbours given"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - changed since the given version; the body is the current state"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<TaskDto> moveTask(
+        @Parameter(description = "Task ID", example = "1")
+        @PathVariable Long id,
+        @Parameter(description = "Version the move is based on, as returned in the ETag header (e.g. \"3\"); takes precedence over version in the body")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Parameter(
+            description = "Target column and neighbour",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Task Move Request",
+                    value = """
+                        {
+                          "status": "IN_PROGRESS",
+                          "previousTaskId": 7
+                        }
+                        """
+                )
+            )
+        )
+        @RequestBody TaskMoveRequest request
+    ) {
+        User currentUser = getCurrentUser();
+        try {
+            return taskService.moveTask(id, request, EntityVersions.expected(ifMatch, request.getVersion()), currentUser)
+                    .map(task -> ResponseEntity.ok().eTag(EntityVersions.eTag(task.getVersion())).body(task))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id, currentUser);
+        }
     }
 
     /**
@@ -582,6 +738,15 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * 409 with the current state, so the client can merge and retry without another GET
+     */
+    private ResponseEntity<TaskDto> conflict(Long id, User currentUser) {
+        return taskService.getLatestTaskById(id, currentUser)
+                .map(task -> ResponseEntity.status(HttpStatus.CONFLICT).eTag(EntityVersions.eTag(task.getVersion())).body(task))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Get current authenticated user
      */
@@ -1,8 +1,11 @@
 package com.pms.controller;
 
+import com.pms.dto.TimeEntryBatchResponse;
 import com.pms.dto.TimeEntryDto;
+import com.pms.dto.TimesheetReportDto;
 import com.pms.entity.User;
 import com.pms.service.TimeEntryService;
+import com.pms.service.TimesheetReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,14 +16,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -28,10 +40,12 @@ import java.util.Map;
 public class TimeEntryController {
 
     private final TimeEntryService timeEntryService;
+    private final TimesheetReportService timesheetReportService;
 
     @Autowired
-    public TimeEntryController(TimeEntryService timeEntryService) {
+    public TimeEntryController(TimeEntryService timeEntryService, TimesheetReportService timesheetReportService) {
         this.timeEntryService = timeEntryService;
+        this.timesheetReportService = timesheetReportService;
     }
 
     /**
@@ -344,6 +358,169 @@ public class TimeEntryController {
         return ResponseEntity.ok(summary);
     }
 
+    /**
+     * Log many time entries across tasks in one request
+     */
+    @PostMapping("/time-entries/batch")
+    @Operation(
+        summary = "Batch log time entries",
+        description = "Stores many time entries for the current user in one transaction, e.g. a day's timer intervals. " +
+                      "Every entry needs an idempotencyKey that is unique per user; resubmitting a key is reported as DUPLICATE " +
+                      "and not stored again, so failed uploads can be retried. Entries on inaccessible tasks are REJECTED " +
+                      "without failing the rest of the batch."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TimeEntryBatchResponse.class),
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = """
+                        {
+                          "created": 1,
+                          "duplicates": 1,
+                          "rejected": 1,
+                          "results": [
+                            { "index": 0, "idempotencyKey": "timer-7f3c2a-0001", "status": "CREATED" },
+                            { "index": 1, "idempotencyKey": "timer-7f3c2a-0002", "status": "DUPLICATE" },
+                            { "index": 2, "idempotencyKey": "timer-7f3c2a-0003", "status": "REJECTED", "error": "Task not found or access denied" }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - batch too large"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<TimeEntryBatchResponse> createTimeEntriesBatch(
+        @Parameter(
+            description = "Time entries to log",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Batch Request",
+                    value = """
+                        [
+                          { "taskId": 1, "hoursSpent": 1.5, "createdAt": "2024-01-15T09:00:00", "idempotencyKey": "timer-7f3c2a-0001" },
+                          { "taskId": 2, "hoursSpent": 0.75, "createdAt": "2024-01-15T10:30:00", "idempotencyKey": "timer-7f3c2a-0002" }
+                        ]
+                        """
+                )
+            )
+        )
+        @RequestBody List<TimeEntryDto> entries
+    ) {
+        User currentUser = getCurrentUser();
+        try {
+            return ResponseEntity.ok(timeEntryService.ingestTimeEntries(entries, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Timesheet report: hours grouped by project, task, user and/or week over a date range
+     */
+    @GetMapping("/time-entries/report")
+    @Operation(
+        summary = "Timesheet report",
+        description = "Returns hours logged between from and to (inclusive), grouped by any comma-separated combination of " +
+                      "project, task, user and week. Only time on projects the user can access is included. " +
+                      "Use format=csv to download the report as CSV. Results are cached for a few minutes."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Report generated successfully",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TimesheetReportDto.class),
+                    examples = @ExampleObject(
+                        name = "Success Response",
+                        value = """
+                            {
+                              "from": "2024-01-01",
+                              "to": "2024-01-31",
+                              "groupBy": ["project", "week"],
+                              "rows": [
+                                { "projectId": 1, "projectName": "Website Redesign", "weekStart": "2024-01-01", "totalHours": 12.5, "entryCount": 4 },
+                                { "projectId": 1, "projectName": "Website Redesign", "weekStart": "2024-01-08", "totalHours": 20.0, "entryCount": 6 }
+                              ],
+                              "totalHours": 32.5,
+                              "generatedAt": "2024-02-01T09:00:00"
+                            }
+                            """
+                    )
+                ),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid date range, grouping or format"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<?> getTimesheetReport(
+        @Parameter(description = "First day of the range (inclusive)", example = "2024-01-01")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "Last day of the range (inclusive)", example = "2024-01-31")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "Comma-separated grouping: project, task, user, week", example = "project,week")
+        @RequestParam(defaultValue = "project") List<String> groupBy,
+        @Parameter(description = "Only include this project", example = "1")
+        @RequestParam(required = false) Long projectId,
+        @Parameter(description = "Only include time logged by this user", example = "2")
+        @RequestParam(required = false) Long userId,
+        @Parameter(description = "Response format: json (default) or csv", example = "csv")
+        @RequestParam(defaultValue = "json") String format
+    ) {
+        User currentUser = getCurrentUser();
+        if (!"json".equalsIgnoreCase(format) && !"csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<TimesheetReportService.GroupBy> dimensions;
+        TimesheetReportDto report;
+        try {
+            dimensions = groupBy.stream()
+                    .filter(value -> !value.isBlank())
+                    .map(TimesheetReportService.GroupBy::parse)
+                    .collect(Collectors.toList());
+            report = timesheetReportService.getReport(from, to, dimensions, projectId, userId, currentUser);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if ("json".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok(report);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            timesheetReportService.writeCsv(report, dimensions, writer);
+        };
+        String filename = "timesheet-" + from + "-to-" + to + ".csv";
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     /**
      * Get current authenticated user
      */
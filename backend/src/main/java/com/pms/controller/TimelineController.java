@@ -0,0 +1,99 @@
+package com.pms.controller;
+
+import com.pms.dto.TimelineDto;
+import com.pms.entity.User;
+import com.pms.monitoring.SqlBudget;
+import com.pms.service.TimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Timeline", description = "Project timeline (Gantt) read model")
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    @Autowired
+    public TimelineController(TimelineService timelineService) {
+        this.timelineService = timelineService;
+    }
+
+    /**
+     * Get the timeline of a project
+     */
+    @GetMapping("/projects/{projectId}/timeline")
+    @SqlBudget(6)
+    @Operation(
+        summary = "Get project timeline",
+        description = "Returns milestones, task spans (creation to due date), assignees and progress of a project in one read, " +
+                      "optionally limited to a date range. Every response carries a version; pass it back as since to receive " +
+                      "only milestones and tasks changed after it, plus the IDs of everything still in range."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Timeline retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TimelineDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid date range"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Project not found or access denied"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - invalid or missing token"
+        )
+    })
+    public ResponseEntity<TimelineDto> getTimeline(
+        @Parameter(description = "Project ID", example = "1")
+        @PathVariable Long projectId,
+        @Parameter(description = "Start of the range (inclusive)", example = "2024-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "End of the range (inclusive)", example = "2024-03-31")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "Version from an earlier response; returns only changes after it", example = "7481023")
+        @RequestParam(required = false) Long since
+    ) {
+        User currentUser = getCurrentUser();
+        Optional<TimelineDto> timeline;
+        try {
+            timeline = timelineService.getTimeline(projectId, from, to, since, currentUser);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return timeline.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get current authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return (User) authentication.getPrincipal();
+        }
+        throw new RuntimeException("User not authenticated");
+    }
+}
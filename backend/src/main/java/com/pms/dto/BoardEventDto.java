@@ -0,0 +1,130 @@
+package com.pms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Live update sent to subscribers of /topic/projects/{projectId} when a task or comment of the project changes")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardEventDto {
+
+    @Schema(description = "What happened", example = "TASK_STATUS_CHANGED")
+    private Type type;
+
+    @Schema(description = "Project the change belongs to", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Task that changed, or the task of the changed comment; absent for column events", example = "5")
+    private Long taskId;
+
+    @Schema(description = "Comment that changed, for comment events", example = "12")
+    private Long commentId;
+
+    @Schema(description = "User who made the change; absent for changes made by background jobs", example = "2")
+    private Long actorId;
+
+    @Schema(description = "When the change was made", example = "2024-01-15T10:00:00")
+    private LocalDateTime occurredAt;
+
+    @Schema(description = "Current task state for task created/updated/status events")
+    private TaskDto task;
+
+    @Schema(description = "Current comment state for comment added/updated events")
+    private CommentDto comment;
+
+    @Schema(description = "Current state of every task given a new rank, for column rebalanced events")
+    private List<TaskDto> tasks;
+
+    @Schema(description = "Board event types")
+    public enum Type {
+        TASK_CREATED, TASK_UPDATED, TASK_STATUS_CHANGED, TASK_MOVED, TASK_DELETED, COLUMN_REBALANCED,
+        COMMENT_ADDED, COMMENT_UPDATED, COMMENT_DELETED
+    }
+
+    // Constructors
+    public BoardEventDto() {}
+
+    public BoardEventDto(Type type, Long projectId, Long taskId, Long commentId, Long actorId) {
+        this.type = type;
+        this.projectId = projectId;
+        this.taskId = taskId;
+        this.commentId = commentId;
+        this.actorId = actorId;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public TaskDto getTask() {
+        return task;
+    }
+
+    public void setTask(TaskDto task) {
+        this.task = task;
+    }
+
+    public CommentDto getComment() {
+        return comment;
+    }
+
+    public void setComment(CommentDto comment) {
+        this.comment = comment;
+    }
+
+    public List<TaskDto> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDto> tasks) {
+        this.tasks = tasks;
+    }
+}
@@ -0,0 +1,91 @@
+package com.pms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Latest change of one entity in a sync window, with its current state unless it was deleted")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeDto {
+
+    @Schema(description = "PROJECT, TASK, COMMENT or MILESTONE", example = "TASK")
+    private String entityType;
+
+    @Schema(description = "ID of the changed entity", example = "42")
+    private Long entityId;
+
+    @Schema(description = "Project the entity belongs to", example = "1")
+    private Long projectId;
+
+    @Schema(description = "CREATED, UPDATED or DELETED. DELETED also means the entity is no longer visible; " +
+                          "deleting a project or task removes its tasks, comments and milestones too", example = "UPDATED")
+    private String operation;
+
+    @Schema(description = "When the latest change was made", example = "2024-01-15T10:00:00")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "Current state as ProjectDto, TaskDto, CommentDto or MilestoneDto; absent for DELETED")
+    private Object data;
+
+    // Constructors
+    public ChangeDto() {}
+
+    public ChangeDto(String entityType, Long entityId, Long projectId, String operation, LocalDateTime changedAt, Object data) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+        this.data = data;
+    }
+
+    // Getters and Setters
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public void setData(Object data) {
+        this.data = data;
+    }
+}
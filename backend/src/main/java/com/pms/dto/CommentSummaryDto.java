@@ -0,0 +1,76 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Comment without repeated task and author details; the author is looked up in the thread's users map")
+public class CommentSummaryDto {
+
+    @Schema(description = "Comment unique identifier", example = "1")
+    private Long id;
+
+    @Schema(description = "User ID who created the comment", example = "2")
+    private Long userId;
+
+    @Schema(description = "Comment text content", example = "Great progress on the design!")
+    private String text;
+
+    @Schema(description = "Comment creation timestamp", example = "2024-01-15T10:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Comment last update timestamp", example = "2024-01-15T10:00:00")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CommentSummaryDto() {}
+
+    public CommentSummaryDto(Long id, Long userId, String text, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.text = text;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
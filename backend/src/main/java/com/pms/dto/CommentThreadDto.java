@@ -0,0 +1,55 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Compact page of a task's comments: task and authors are sent once instead of on every comment")
+public class CommentThreadDto extends CursorPage<CommentSummaryDto> {
+
+    @Schema(description = "Task ID the comments belong to", example = "1")
+    private Long taskId;
+
+    @Schema(description = "Title of the task", example = "Design Homepage")
+    private String taskTitle;
+
+    @Schema(description = "Authors of the comments on this page, keyed by user ID")
+    private Map<Long, UserDto> users;
+
+    // Constructors
+    public CommentThreadDto() {}
+
+    public CommentThreadDto(Long taskId, String taskTitle, Map<Long, UserDto> users,
+                            List<CommentSummaryDto> items, String nextCursor, boolean hasMore) {
+        super(items, nextCursor, hasMore);
+        this.taskId = taskId;
+        this.taskTitle = taskTitle;
+        this.users = users;
+    }
+
+    // Getters and Setters
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public void setTaskTitle(String taskTitle) {
+        this.taskTitle = taskTitle;
+    }
+
+    public Map<Long, UserDto> getUsers() {
+        return users;
+    }
+
+    public void setUsers(Map<Long, UserDto> users) {
+        this.users = users;
+    }
+}
@@ -0,0 +1,52 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of a keyset-paginated list")
+public class CursorPage<T> {
+
+    @Schema(description = "Items on this page, newest first")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor for the next page, null on the last page", example = "MjAyNC0wMS0xNVQxMDowMDp8MQ")
+    private String nextCursor;
+
+    @Schema(description = "Whether more items exist after this page", example = "true")
+    private boolean hasMore;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,113 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary of a bulk import with the rows that failed")
+public class ImportResultDto {
+
+    @Schema(description = "Imported dataset", example = "tasks")
+    private String dataset;
+
+    @Schema(description = "Data rows read from the file", example = "5000")
+    private long rowsRead;
+
+    @Schema(description = "Rows inserted", example = "4987")
+    private long imported;
+
+    @Schema(description = "Rows rejected", example = "13")
+    private long failed;
+
+    @Schema(description = "Per-row errors in file order, capped at the configured maximum")
+    private List<ImportRowErrorDto> errors;
+
+    @Schema(description = "True if more rows failed than are listed in errors", example = "false")
+    private boolean errorsTruncated;
+
+    @Schema(description = "Wall-clock duration of the import in milliseconds", example = "1840")
+    private long durationMs;
+
+    @Schema(description = "Rows read per second", example = "2717.4")
+    private double rowsPerSecond;
+
+    // Constructors
+    public ImportResultDto() {}
+
+    public ImportResultDto(String dataset, long rowsRead, long imported, long failed, List<ImportRowErrorDto> errors,
+                           boolean errorsTruncated, long durationMs, double rowsPerSecond) {
+        this.dataset = dataset;
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+        this.durationMs = durationMs;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    // Getters and Setters
+    public String getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(String dataset) {
+        this.dataset = dataset;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportRowErrorDto> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportRowErrorDto> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
@@ -0,0 +1,38 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A row of an import file that was not imported")
+public class ImportRowErrorDto {
+
+    @Schema(description = "Line of the file on which the row starts", example = "17")
+    private long line;
+
+    @Schema(description = "Why the row was rejected", example = "Assignee not found: jane@example.com")
+    private String error;
+
+    // Constructors
+    public ImportRowErrorDto() {}
+
+    public ImportRowErrorDto(long line, String error) {
+        this.line = line;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
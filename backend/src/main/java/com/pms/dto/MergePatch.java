@@ -0,0 +1,108 @@
+package com.pms.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch document (RFC 7386) for flat resources: a field that is absent stays unchanged, a
+ * field set to null is cleared, and any other value replaces the current one. The version field is the
+ * expected version, like the version in a full update body. Accessors throw IllegalArgumentException
+ * for values of the wrong type.
+ */
+@Schema(description = "JSON Merge Patch: only the fields present are changed, null clears a field",
+        type = "object", example = "{\"status\": \"IN_PROGRESS\", \"dueDate\": null, \"version\": 3}")
+public class MergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+    private static final String VERSION = "version";
+
+    private final ObjectNode fields;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public MergePatch(ObjectNode fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Reject fields other than the given ones and version
+     */
+    public void requireOnly(Set<String> patchable) {
+        for (Iterator<String> names = fields.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!name.equals(VERSION) && !patchable.contains(name)) {
+                throw new IllegalArgumentException(name + " cannot be patched");
+            }
+        }
+    }
+
+    public boolean has(String field) {
+        return fields.has(field);
+    }
+
+    public Long getVersion() {
+        return getLong(VERSION);
+    }
+
+    public String getText(String field) {
+        JsonNode value = fields.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        return value.asText();
+    }
+
+    /**
+     * A required text field: present patches may change it but not clear or blank it
+     */
+    public String getRequiredText(String field, int maxLength) {
+        String value = getText(field);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(field + " must be less than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    public Long getLong(String field) {
+        JsonNode value = fields.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.canConvertToExactIntegral() || !value.canConvertToLong()) {
+            throw new IllegalArgumentException(field + " must be an integer");
+        }
+        return value.asLong();
+    }
+
+    public LocalDate getDate(String field) {
+        String value = getText(field);
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be a date (yyyy-MM-dd)", e);
+        }
+    }
+
+    /**
+     * A required enum field, matched case-insensitively like status updates
+     */
+    public <E extends Enum<E>> E getRequiredEnum(String field, Class<E> type) {
+        String value = getText(field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return Enum.valueOf(type, value.toUpperCase());
+    }
+}
@@ -39,6 +39,9 @@ public class MilestoneDto {
     @Schema(description = "Milestone last update timestamp", example = "2024-01-15T10:00:00")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Version of the milestone; send it back (or as If-Match) on updates to fail with 409 instead of overwriting newer changes", example = "3")
+    private Long version;
+
     // Constructors
     public MilestoneDto() {}
 
@@ -121,6 +124,14 @@ public class MilestoneDto {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "MilestoneDto{" +
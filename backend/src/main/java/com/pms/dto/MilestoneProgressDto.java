@@ -0,0 +1,62 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Milestone completion of one project")
+public class MilestoneProgressDto {
+
+    @Schema(description = "Project ID", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Completed milestones", example = "1")
+    private long completed;
+
+    @Schema(description = "Total milestones", example = "4")
+    private long total;
+
+    @Schema(description = "Percentage of completed milestones (0 when the project has none)", example = "25.0")
+    private double progress;
+
+    // Constructors
+    public MilestoneProgressDto() {}
+
+    public MilestoneProgressDto(Long projectId, Long total, Long completed) {
+        this.projectId = projectId;
+        this.total = total;
+        this.completed = completed;
+        this.progress = total == 0 ? 0.0 : (double) completed / total * 100;
+    }
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    public void setProgress(double progress) {
+        this.progress = progress;
+    }
+}
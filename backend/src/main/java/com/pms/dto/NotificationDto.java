@@ -29,6 +29,23 @@ public class NotificationDto {
     @Schema(description = "Notification creation timestamp", example = "2024-01-15T10:00:00")
     private LocalDateTime createdAt;
 
+    @Schema(description = "Notification type", example = "COMMENT_ADDED", allowableValues = {"GENERAL", "TASK_ASSIGNED", "COMMENT_ADDED"})
+    private Type type;
+
+    @Schema(description = "Task the notification is about, if any", example = "5")
+    private Long taskId;
+
+    @Schema(description = "Number of events merged into this notification", example = "3")
+    private int eventCount = 1;
+
+    @Schema(description = "Timestamp of the latest merged event, if more than one", example = "2024-01-15T10:45:00")
+    private LocalDateTime lastEventAt;
+
+    @Schema(description = "Notification types")
+    public enum Type {
+        GENERAL, TASK_ASSIGNED, COMMENT_ADDED
+    }
+
     // Constructors
     public NotificationDto() {}
 
@@ -46,6 +63,19 @@ public class NotificationDto {
         this.createdAt = createdAt;
     }
 
+    public NotificationDto(Long id, Long userId, String message, boolean read, LocalDateTime createdAt,
+                           String type, Long taskId, int eventCount, LocalDateTime lastEventAt) {
+        this.id = id;
+        this.userId = userId;
+        this.message = message;
+        this.read = read;
+        this.createdAt = createdAt;
+        this.type = Type.valueOf(type);
+        this.taskId = taskId;
+        this.eventCount = eventCount;
+        this.lastEventAt = lastEventAt;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -106,4 +136,36 @@ public class NotificationDto {
                 ", createdAt=" + createdAt +
                 '}';
     }
-} 
\ No newline at end of file
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public LocalDateTime getLastEventAt() {
+        return lastEventAt;
+    }
+
+    public void setLastEventAt(LocalDateTime lastEventAt) {
+        this.lastEventAt = lastEventAt;
+    }
+}
@@ -0,0 +1,42 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Notifications to mark as read: either a list of IDs or everything whose latest event is up to a timestamp")
+public class NotificationReadRequest {
+
+    @Schema(description = "IDs of the notifications to mark as read (at most 100 by default)", example = "[3, 5, 8]")
+    private List<Long> ids;
+
+    @Schema(description = "Mark every notification whose latest event (lastEventAt, else createdAt) is at or before this timestamp as read, e.g. the newest one shown",
+            example = "2024-01-15T11:00:00")
+    private LocalDateTime upTo;
+
+    // Constructors
+    public NotificationReadRequest() {}
+
+    public NotificationReadRequest(List<Long> ids, LocalDateTime upTo) {
+        this.ids = ids;
+        this.upTo = upTo;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public LocalDateTime getUpTo() {
+        return upTo;
+    }
+
+    public void setUpTo(LocalDateTime upTo) {
+        this.upTo = upTo;
+    }
+}
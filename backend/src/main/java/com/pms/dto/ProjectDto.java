@@ -33,6 +33,9 @@ public class ProjectDto {
     
     @Schema(description = "Project last update timestamp", example = "2024-01-15T10:00:00")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "Version of the project; send it back (or as If-Match) on updates to fail with 409 instead of overwriting newer changes", example = "3")
+    private Long version;
     
     @Schema(description = "Creator user ID", example = "1")
     private Long creatorId;
@@ -136,6 +139,14 @@ public class ProjectDto {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<TaskDto> getTasks() {
         return tasks;
     }
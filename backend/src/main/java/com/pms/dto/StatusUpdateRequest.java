@@ -7,6 +7,9 @@ public class StatusUpdateRequest {
     @NotNull(message = "Status is required")
     private String status;
 
+    // Expected task version; the update fails with 409 if the task has changed since
+    private Long version;
+
     // Constructors
     public StatusUpdateRequest() {}
 
@@ -23,10 +26,19 @@ public class StatusUpdateRequest {
         this.status = status;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "StatusUpdateRequest{" +
                 "status='" + status + '\'' +
+                ", version=" + version +
                 '}';
     }
 } 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Changes visible to the user since a sync cursor")
+public class SyncResponse {
+
+    @Schema(description = "Latest change per entity, in change log order")
+    private List<ChangeDto> changes;
+
+    @Schema(description = "Cursor to pass as since on the next call; always present", example = "NzQ4MTAyMy4wLi0xLjE3MDUzMTI4MDA")
+    private String cursor;
+
+    @Schema(description = "Whether more changes are waiting; call again immediately with the new cursor", example = "false")
+    private boolean hasMore;
+
+    // Constructors
+    public SyncResponse() {}
+
+    public SyncResponse(List<ChangeDto> changes, String cursor, boolean hasMore) {
+        this.changes = changes;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<ChangeDto> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeDto> changes) {
+        this.changes = changes;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -39,6 +39,12 @@ public class TaskDto {
     
     @Schema(description = "Task last update timestamp", example = "2024-01-15T10:00:00")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "Version of the task; send it back (or as If-Match) on updates to fail with 409 instead of overwriting newer changes", example = "3")
+    private Long version;
+
+    @Schema(description = "Position within the task's board column; sort a column by rank (as plain strings) to show it in board order", example = "i")
+    private String rank;
     
     @Schema(description = "User ID assigned to this task", example = "2")
     private Long assignedToId;
@@ -143,6 +149,22 @@ public class TaskDto {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
     public Long getAssignedToId() {
         return assignedToId;
     }
@@ -169,6 +191,7 @@ public class TaskDto {
                 ", priority=" + priority +
                 ", status=" + status +
                 ", dueDate=" + dueDate +
+                ", rank='" + rank + '\'' +
                 ", assignedToId=" + assignedToId +
                 ", assignedToName='" + assignedToName + '\'' +
                 '}';
@@ -0,0 +1,62 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Where to put a task on the board: right after previousTaskId, right before nextTaskId, or at the end of the column if neither is given")
+public class TaskMoveRequest {
+
+    @Schema(description = "Column to move the task to; defaults to its current status", example = "IN_PROGRESS",
+            allowableValues = {"TODO", "IN_PROGRESS", "COMPLETED"})
+    private TaskDto.Status status;
+
+    @Schema(description = "Task to place the moved task directly after (same project and column)", example = "7")
+    private Long previousTaskId;
+
+    @Schema(description = "Task to place the moved task directly before (same project and column)", example = "9")
+    private Long nextTaskId;
+
+    @Schema(description = "Expected task version; the move fails with 409 if the task has changed since", example = "3")
+    private Long version;
+
+    // Constructors
+    public TaskMoveRequest() {}
+
+    public TaskMoveRequest(TaskDto.Status status, Long previousTaskId, Long nextTaskId) {
+        this.status = status;
+        this.previousTaskId = previousTaskId;
+        this.nextTaskId = nextTaskId;
+    }
+
+    // Getters and Setters
+    public TaskDto.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskDto.Status status) {
+        this.status = status;
+    }
+
+    public Long getPreviousTaskId() {
+        return previousTaskId;
+    }
+
+    public void setPreviousTaskId(Long previousTaskId) {
+        this.previousTaskId = previousTaskId;
+    }
+
+    public Long getNextTaskId() {
+        return nextTaskId;
+    }
+
+    public void setNextTaskId(Long nextTaskId) {
+        this.nextTaskId = nextTaskId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
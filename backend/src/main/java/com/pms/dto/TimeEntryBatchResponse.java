@@ -0,0 +1,64 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary of a batch time entry upload with one result per submitted entry")
+public class TimeEntryBatchResponse {
+
+    @Schema(description = "Entries stored by this request", example = "42")
+    private int created;
+
+    @Schema(description = "Entries skipped because their idempotency key was already ingested", example = "3")
+    private int duplicates;
+
+    @Schema(description = "Entries rejected for validation or access reasons", example = "1")
+    private int rejected;
+
+    @Schema(description = "Per-entry results in request order")
+    private List<TimeEntryBatchResultDto> results;
+
+    // Constructors
+    public TimeEntryBatchResponse() {}
+
+    public TimeEntryBatchResponse(int created, int duplicates, int rejected, List<TimeEntryBatchResultDto> results) {
+        this.created = created;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<TimeEntryBatchResultDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<TimeEntryBatchResultDto> results) {
+        this.results = results;
+    }
+}
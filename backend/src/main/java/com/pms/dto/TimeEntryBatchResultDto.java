@@ -0,0 +1,68 @@
+package com.pms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one entry in a batch time entry upload")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimeEntryBatchResultDto {
+
+    public enum Status {
+        CREATED, DUPLICATE, REJECTED
+    }
+
+    @Schema(description = "Position of the entry in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Idempotency key of the entry", example = "timer-7f3c2a-0001")
+    private String idempotencyKey;
+
+    @Schema(description = "CREATED, DUPLICATE (already ingested earlier) or REJECTED", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "Why the entry was rejected", example = "Task not found or access denied")
+    private String error;
+
+    // Constructors
+    public TimeEntryBatchResultDto() {}
+
+    public TimeEntryBatchResultDto(int index, String idempotencyKey, Status status, String error) {
+        this.index = index;
+        this.idempotencyKey = idempotencyKey;
+        this.status = status;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -3,6 +3,7 @@ package com.pms.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 
@@ -29,9 +30,13 @@ public class TimeEntryDto {
     @Positive(message = "Hours spent must be positive")
     private Double hoursSpent;
 
-    @Schema(description = "Time entry creation timestamp", example = "2024-01-15T10:00:00")
+    @Schema(description = "Time entry creation timestamp; in batch ingestion, when the time was logged (defaults to now)", example = "2024-01-15T10:00:00")
     private LocalDateTime createdAt;
 
+    @Schema(description = "Client-generated key, unique per user, that makes batch ingestion retries safe", example = "timer-7f3c2a-0001")
+    @Size(max = 100, message = "Idempotency key must be at most 100 characters")
+    private String idempotencyKey;
+
     // Constructors
     public TimeEntryDto() {}
 
@@ -107,6 +112,14 @@ public class TimeEntryDto {
         this.createdAt = createdAt;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     @Override
     public String toString() {
         return "TimeEntryDto{" +
@@ -117,6 +130,7 @@ public class TimeEntryDto {
                 ", userName='" + userName + '\'' +
                 ", hoursSpent=" + hoursSpent +
                 ", createdAt=" + createdAt +
+                ", idempotencyKey='" + idempotencyKey + '\'' +
                 '}';
     }
 } 
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.pms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Project timeline: milestones, task spans and assignees in one read, or the changes since a version")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimelineDto {
+
+    @Schema(description = "Project ID", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Project name", example = "Website Redesign")
+    private String projectName;
+
+    @Schema(description = "Project start date", example = "2024-01-01")
+    private LocalDate projectStartDate;
+
+    @Schema(description = "Project end date", example = "2024-06-30")
+    private LocalDate projectEndDate;
+
+    @Schema(description = "Start of the requested range (inclusive), if any", example = "2024-01-01")
+    private LocalDate from;
+
+    @Schema(description = "End of the requested range (inclusive), if any", example = "2024-03-31")
+    private LocalDate to;
+
+    @Schema(description = "Change version of this read; pass it as since to fetch only later changes", example = "7481023")
+    private long version;
+
+    @Schema(description = "Version the delta was computed from; absent for a full read", example = "7480977")
+    private Long since;
+
+    @Schema(description = "Completion of all milestones of the project")
+    private MilestoneProgressDto milestoneProgress;
+
+    @Schema(description = "Tasks in the project", example = "24")
+    private long tasksTotal;
+
+    @Schema(description = "Completed tasks in the project", example = "9")
+    private long tasksCompleted;
+
+    @Schema(description = "Milestones in range ordered by target date; in delta mode only those changed since the given version")
+    private List<TimelineMilestoneDto> milestones;
+
+    @Schema(description = "Tasks overlapping the range ordered by start date; in delta mode only those changed since the given version")
+    private List<TimelineTaskDto> tasks;
+
+    @Schema(description = "Assignees of the returned tasks, keyed by user ID")
+    private Map<Long, UserDto> users;
+
+    @Schema(description = "Delta mode only: IDs of all milestones now in range, so removed ones can be dropped")
+    private List<Long> milestoneIds;
+
+    @Schema(description = "Delta mode only: IDs of all tasks now in range, so removed ones can be dropped")
+    private List<Long> taskIds;
+
+    // Constructors
+    public TimelineDto() {}
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public LocalDate getProjectStartDate() {
+        return projectStartDate;
+    }
+
+    public void setProjectStartDate(LocalDate projectStartDate) {
+        this.projectStartDate = projectStartDate;
+    }
+
+    public LocalDate getProjectEndDate() {
+        return projectEndDate;
+    }
+
+    public void setProjectEndDate(LocalDate projectEndDate) {
+        this.projectEndDate = projectEndDate;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Long getSince() {
+        return since;
+    }
+
+    public void setSince(Long since) {
+        this.since = since;
+    }
+
+    public MilestoneProgressDto getMilestoneProgress() {
+        return milestoneProgress;
+    }
+
+    public void setMilestoneProgress(MilestoneProgressDto milestoneProgress) {
+        this.milestoneProgress = milestoneProgress;
+    }
+
+    public long getTasksTotal() {
+        return tasksTotal;
+    }
+
+    public void setTasksTotal(long tasksTotal) {
+        this.tasksTotal = tasksTotal;
+    }
+
+    public long getTasksCompleted() {
+        return tasksCompleted;
+    }
+
+    public void setTasksCompleted(long tasksCompleted) {
+        this.tasksCompleted = tasksCompleted;
+    }
+
+    public List<TimelineMilestoneDto> getMilestones() {
+        return milestones;
+    }
+
+    public void setMilestones(List<TimelineMilestoneDto> milestones) {
+        this.milestones = milestones;
+    }
+
+    public List<TimelineTaskDto> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TimelineTaskDto> tasks) {
+        this.tasks = tasks;
+    }
+
+    public Map<Long, UserDto> getUsers() {
+        return users;
+    }
+
+    public void setUsers(Map<Long, UserDto> users) {
+        this.users = users;
+    }
+
+    public List<Long> getMilestoneIds() {
+        return milestoneIds;
+    }
+
+    public void setMilestoneIds(List<Long> milestoneIds) {
+        this.milestoneIds = milestoneIds;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+}
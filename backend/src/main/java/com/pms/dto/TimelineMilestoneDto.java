@@ -0,0 +1,64 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Milestone on a project timeline")
+public class TimelineMilestoneDto {
+
+    @Schema(description = "Milestone ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Milestone title", example = "Beta Release")
+    private String title;
+
+    @Schema(description = "Target date", example = "2024-03-01")
+    private LocalDate targetDate;
+
+    @Schema(description = "Whether the milestone is completed", example = "false")
+    private boolean completed;
+
+    // Constructors
+    public TimelineMilestoneDto() {}
+
+    public TimelineMilestoneDto(Long id, String title, LocalDate targetDate, boolean completed) {
+        this.id = id;
+        this.title = title;
+        this.targetDate = targetDate;
+        this.completed = completed;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDate getTargetDate() {
+        return targetDate;
+    }
+
+    public void setTargetDate(LocalDate targetDate) {
+        this.targetDate = targetDate;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,101 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Task bar on a project timeline, spanning from creation to due date")
+public class TimelineTaskDto {
+
+    @Schema(description = "Task ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Task title", example = "Design Homepage")
+    private String title;
+
+    @Schema(description = "Task status", example = "IN_PROGRESS")
+    private String status;
+
+    @Schema(description = "Task priority", example = "HIGH")
+    private String priority;
+
+    @Schema(description = "Start of the bar: the day the task was created", example = "2024-01-10")
+    private LocalDate startDate;
+
+    @Schema(description = "Due date; null for open-ended tasks", example = "2024-02-01")
+    private LocalDate dueDate;
+
+    @Schema(description = "Assignee user ID, looked up in the timeline's users map", example = "2")
+    private Long assigneeId;
+
+    // Constructors
+    public TimelineTaskDto() {}
+
+    public TimelineTaskDto(Long id, String title, String status, String priority,
+                           LocalDate startDate, LocalDate dueDate, Long assigneeId) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.startDate = startDate;
+        this.dueDate = dueDate;
+        this.assigneeId = assigneeId;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+}
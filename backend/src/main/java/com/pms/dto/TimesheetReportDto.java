@@ -0,0 +1,91 @@
+package com.pms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Hours logged in a date range, grouped by project, task, user and/or week")
+public class TimesheetReportDto {
+
+    @Schema(description = "First day of the range (inclusive)", example = "2024-01-01")
+    private LocalDate from;
+
+    @Schema(description = "Last day of the range (inclusive)", example = "2024-01-31")
+    private LocalDate to;
+
+    @Schema(description = "Grouping dimensions in order", example = "[\"project\", \"week\"]")
+    private List<String> groupBy;
+
+    @Schema(description = "One row per group")
+    private List<TimesheetRowDto> rows;
+
+    @Schema(description = "Sum of hours over all rows", example = "160.0")
+    private Double totalHours;
+
+    @Schema(description = "When the report was computed; cached reports may be a few minutes old", example = "2024-02-01T09:00:00")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public TimesheetReportDto() {}
+
+    public TimesheetReportDto(LocalDate from, LocalDate to, List<String> groupBy, List<TimesheetRowDto> rows,
+                              Double totalHours, LocalDateTime generatedAt) {
+        this.from = from;
+        this.to = to;
+        this.groupBy = groupBy;
+        this.rows = rows;
+        this.totalHours = totalHours;
+        this.generatedAt = generatedAt;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<String> getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(List<String> groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public List<TimesheetRowDto> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<TimesheetRowDto> rows) {
+        this.rows = rows;
+    }
+
+    public Double getTotalHours() {
+        return totalHours;
+    }
+
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
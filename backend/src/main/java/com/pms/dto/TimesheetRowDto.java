@@ -0,0 +1,114 @@
+package com.pms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Hours for one group of a timesheet report; only the grouped-by fields are set")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimesheetRowDto {
+
+    @Schema(description = "Project ID (when grouped by project)", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Project name (when grouped by project)", example = "Website Redesign")
+    private String projectName;
+
+    @Schema(description = "Task ID (when grouped by task)", example = "1")
+    private Long taskId;
+
+    @Schema(description = "Task title (when grouped by task)", example = "Design Homepage")
+    private String taskTitle;
+
+    @Schema(description = "User ID (when grouped by user)", example = "2")
+    private Long userId;
+
+    @Schema(description = "User name (when grouped by user)", example = "Jane Smith")
+    private String userName;
+
+    @Schema(description = "Monday of the ISO week (when grouped by week)", example = "2024-01-15")
+    private LocalDate weekStart;
+
+    @Schema(description = "Total hours logged in this group", example = "12.5")
+    private Double totalHours;
+
+    @Schema(description = "Number of time entries in this group", example = "4")
+    private Long entryCount;
+
+    // Constructors
+    public TimesheetRowDto() {}
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public void setTaskTitle(String taskTitle) {
+        this.taskTitle = taskTitle;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public Double getTotalHours() {
+        return totalHours;
+    }
+
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+
+    public Long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(Long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
@@ -0,0 +1,131 @@
+package com.pms.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One created/updated/deleted event of a project, task, comment or milestone, written in the
+ * transaction that made the change. The writing transaction ID (tx_id) is filled in by the database.
+ */
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 10)
+    private Operation operation;
+
+    // Owner and visibility of the project when the change was made; used once the project is deleted
+    @Column(name = "project_creator_id")
+    private Long projectCreatorId;
+
+    @Column(name = "project_public", nullable = false)
+    private boolean projectPublic;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    // Entity type enum
+    public enum EntityType {
+        PROJECT, TASK, COMMENT, MILESTONE
+    }
+
+    // Operation enum
+    public enum Operation {
+        CREATED, UPDATED, DELETED
+    }
+
+    // Constructors
+    public ChangeLogEntry() {}
+
+    public ChangeLogEntry(EntityType entityType, Long entityId, Project project, Operation operation) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = project.getId();
+        this.operation = operation;
+        this.projectCreatorId = project.getCreator() != null ? project.getCreator().getId() : null;
+        this.projectPublic = project.getVisibility() == Project.Visibility.PUBLIC;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public Long getProjectCreatorId() {
+        return projectCreatorId;
+    }
+
+    public void setProjectCreatorId(Long projectCreatorId) {
+        this.projectCreatorId = projectCreatorId;
+    }
+
+    public boolean isProjectPublic() {
+        return projectPublic;
+    }
+
+    public void setProjectPublic(boolean projectPublic) {
+        this.projectPublic = projectPublic;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
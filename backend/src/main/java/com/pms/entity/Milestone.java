@@ -40,6 +40,11 @@ public class Milestone {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Incremented on every update; an update based on an older version fails instead of overwriting
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Constructors
     public Milestone() {}
 
@@ -115,6 +120,14 @@ public class Milestone {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
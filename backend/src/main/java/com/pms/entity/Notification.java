@@ -28,10 +28,29 @@ public class Notification {
     @Column(name = "read_status", nullable = false)
     private boolean read = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private Type type = Type.GENERAL;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    // Number of events merged into this notification
+    @Column(name = "event_count", nullable = false)
+    private int eventCount = 1;
+
+    @Column(name = "last_event_at")
+    private LocalDateTime lastEventAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Notification type enum
+    public enum Type {
+        GENERAL, TASK_ASSIGNED, COMMENT_ADDED
+    }
+
     // Constructors
     public Notification() {}
 
@@ -40,6 +59,13 @@ public class Notification {
         this.message = message;
     }
 
+    public Notification(User user, String message, Type type, Long taskId) {
+        this.user = user;
+        this.message = message;
+        this.type = type;
+        this.taskId = taskId;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -73,6 +99,38 @@ public class Notification {
         this.read = read;
     }
 
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public LocalDateTime getLastEventAt() {
+        return lastEventAt;
+    }
+
+    public void setLastEventAt(LocalDateTime lastEventAt) {
+        this.lastEventAt = lastEventAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,6 +1,8 @@
 package com.pms.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -8,6 +10,8 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "project_members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
 public class ProjectMember {
 
     @Id
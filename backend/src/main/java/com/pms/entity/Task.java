@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tasks")
+@DynamicUpdate
 public class Task {
 
     @Id
@@ -42,6 +44,10 @@ public class Task {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Position within the project's column for this status, compared as a string (see TaskRanks)
+    @Column(name = "board_rank", nullable = false, length = 64)
+    private String rank;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -50,6 +56,11 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Incremented on every update; an update based on an older version fails instead of overwriting
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to_id")
     private User assignedTo;
@@ -140,6 +151,14 @@ public class Task {
         this.createdAt = createdAt;
     }
 
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -148,6 +167,14 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public User getAssignedTo() {
         return assignedTo;
     }
@@ -165,6 +192,7 @@ public class Task {
                 ", priority=" + priority +
                 ", status=" + status +
                 ", dueDate=" + dueDate +
+                ", rank='" + rank + '\'' +
                 ", assignedTo=" + (assignedTo != null ? assignedTo.getName() : "Unassigned") +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
@@ -35,6 +35,9 @@ public class TimeEntry {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "idempotency_key", length = 100, updatable = false)
+    private String idempotencyKey;
+
     // Constructors
     public TimeEntry() {}
 
@@ -85,6 +88,14 @@ public class TimeEntry {
         this.createdAt = createdAt;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
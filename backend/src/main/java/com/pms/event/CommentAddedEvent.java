@@ -0,0 +1,47 @@
+package com.pms.event;
+
+/**
+ * A comment was added to a task. taskAssigneeId is null for unassigned tasks.
+ */
+public class CommentAddedEvent extends DomainEvent {
+
+    private final Long commentId;
+    private final Long taskId;
+    private final Long authorId;
+    private final String authorName;
+    private final String taskTitle;
+    private final Long taskAssigneeId;
+
+    public CommentAddedEvent(Long commentId, Long taskId, Long authorId, String authorName, String taskTitle, Long taskAssigneeId) {
+        this.commentId = commentId;
+        this.taskId = taskId;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.taskTitle = taskTitle;
+        this.taskAssigneeId = taskAssigneeId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public Long getTaskAssigneeId() {
+        return taskAssigneeId;
+    }
+}
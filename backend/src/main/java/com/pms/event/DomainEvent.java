@@ -0,0 +1,8 @@
+package com.pms.event;
+
+/**
+ * Something that happened in the domain, recorded in the outbox by the transaction that caused it.
+ * Events are stored as JSON and carry IDs and the values listeners need, never entities.
+ */
+public abstract class DomainEvent {
+}
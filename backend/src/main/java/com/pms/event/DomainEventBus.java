@@ -0,0 +1,266 @@
+package com.pms.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pms.entity.OutboxEvent;
+import com.pms.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Domain event bus backed by a transactional outbox (see V15__add_event_outbox.sql). Publishing writes
+ * one event_outbox row per interested listener in the caller's transaction, so events commit or roll
+ * back with the change that caused them. Each listener has its own relay threads that claim due rows
+ * with FOR UPDATE SKIP LOCKED, handle them in a new transaction and delete them; failures are retried
+ * with exponential backoff and parked after max-attempts. Delivery is at least once.
+ */
+@Component
+public class DomainEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Stream.of(
+                    TaskCreatedEvent.class, TaskAssignedEvent.class, CommentAddedEvent.class,
+                    TimeLoggedEvent.class, MilestoneToggledEvent.class)
+            .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate claimTransaction;
+    private final TransactionTemplate handlerTransaction;
+    private final List<ListenerRelay> relays;
+
+    @Value("${pms.events.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${pms.events.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${pms.events.outbox.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    @Value("${pms.events.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${pms.events.outbox.retry-delay:5s}")
+    private Duration retryDelay;
+
+    @Value("${pms.events.outbox.max-retry-delay:10m}")
+    private Duration maxRetryDelay;
+
+    @Value("${pms.events.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+
+    @Autowired
+    public DomainEventBus(ObjectProvider<DomainEventListener> listeners, OutboxEventRepository outboxEventRepository,
+                          ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry, Environment environment,
+                          @Value("${pms.events.threads:1}") int defaultThreads) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.handlerTransaction = new TransactionTemplate(transactionManager);
+        this.handlerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.relays = listeners.orderedStream()
+                .map(listener -> {
+                    int threads = environment.getProperty("pms.events.listeners." + listener.getName() + ".threads",
+                            Integer.class, defaultThreads);
+                    return new ListenerRelay(listener, Math.max(1, threads), meterRegistry);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Record an event for every interested listener, in the current transaction if there is one
+     */
+    public void publish(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = new ArrayList<>();
+        for (ListenerRelay relay : relays) {
+            if (relay.listener.supports(event)) {
+                rows.add(new OutboxEvent(relay.listener.getName(), event.getClass().getSimpleName(), payload, now));
+            }
+        }
+        if (!rows.isEmpty()) {
+            outboxEventRepository.saveAll(rows);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (relayEnabled) {
+            relays.forEach(ListenerRelay::start);
+        }
+    }
+
+    /**
+     * Stop claiming; rows of interrupted batches are unlocked on rollback and picked up again later
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        relays.forEach(relay -> relay.scheduler.shutdown());
+        for (ListenerRelay relay : relays) {
+            if (!relay.scheduler.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Event relay {} did not stop within {}", relay.listener.getName(), shutdownTimeout);
+                relay.scheduler.shutdownNow();
+            }
+        }
+    }
+
+    private DomainEvent deserialize(OutboxEvent row) throws JsonProcessingException {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(row.getEventType());
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown event type: " + row.getEventType());
+        }
+        return objectMapper.readValue(row.getPayload(), type);
+    }
+
+    private final class ListenerRelay {
+
+        private final DomainEventListener listener;
+        private final int threads;
+        private final ScheduledExecutorService scheduler;
+        private final AtomicLong pending = new AtomicLong();
+        private final Timer lag;
+        private final Timer duration;
+        private final Counter succeeded;
+        private final Counter failed;
+        private final Counter parked;
+
+        private ListenerRelay(DomainEventListener listener, int threads, MeterRegistry meterRegistry) {
+            this.listener = listener;
+            this.threads = threads;
+            String name = listener.getName();
+            AtomicInteger threadCount = new AtomicInteger();
+            this.scheduler = Executors.newScheduledThreadPool(threads,
+                    runnable -> new Thread(runnable, "events-" + name + "-" + threadCount.incrementAndGet()));
+
+            this.lag = Timer.builder("pms.events.lag")
+                    .description("Time from an event being recorded until its listener starts handling it")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+            this.duration = Timer.builder("pms.events.duration")
+                    .description("Time a listener spends handling an event")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+            this.succeeded = handledCounter(meterRegistry, name, "success");
+            this.failed = handledCounter(meterRegistry, name, "failure");
+            this.parked = handledCounter(meterRegistry, name, "parked");
+            Gauge.builder("pms.events.pending", pending, AtomicLong::get)
+                    .description("Outbox events waiting for a listener, as of its last poll")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            // Relay threads share the listener's rows through SKIP LOCKED, like relays on other instances
+            for (int i = 0; i < threads; i++) {
+                scheduler.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(), pollInterval.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Handle due events batch by batch until a batch comes back short
+         */
+        private void drain() {
+            try {
+                Integer claimed;
+                do {
+                    claimed = claimTransaction.execute(status -> handleBatch());
+                } while (claimed != null && claimed == batchSize && !scheduler.isShutdown());
+                pending.set(outboxEventRepository.countByListenerAndFailedAtIsNull(listener.getName()));
+            } catch (RuntimeException e) {
+                log.error("Event relay {} failed to poll the outbox", listener.getName(), e);
+            }
+        }
+
+        private int handleBatch() {
+            List<OutboxEvent> batch = outboxEventRepository.claimDue(listener.getName(), LocalDateTime.now(), batchSize);
+            List<Long> handled = new ArrayList<>(batch.size());
+            for (OutboxEvent row : batch) {
+                LocalDateTime start = LocalDateTime.now();
+                lag.record(Duration.between(row.getCreatedAt(), start));
+                try {
+                    DomainEvent event = deserialize(row);
+                    handlerTransaction.executeWithoutResult(status -> listener.onEvent(event));
+                    handled.add(row.getId());
+                    succeeded.increment();
+                } catch (JsonProcessingException | RuntimeException e) {
+                    reschedule(row, e);
+                } finally {
+                    duration.record(Duration.between(start, LocalDateTime.now()));
+                }
+            }
+            if (!handled.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(handled);
+            }
+            return batch.size();
+        }
+
+        /**
+         * Retry later with exponential backoff, or park the event once it has used up its attempts
+         */
+        private void reschedule(OutboxEvent row, Exception error) {
+            int attempts = row.getAttempts() + 1;
+            String message = String.valueOf(error.getMessage());
+            row.setAttempts(attempts);
+            row.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            if (attempts >= maxAttempts) {
+                row.setFailedAt(LocalDateTime.now());
+                parked.increment();
+                log.error("Event listener {} gave up on {} #{} after {} attempts",
+                        listener.getName(), row.getEventType(), row.getId(), attempts, error);
+            } else {
+                long delayMillis = Math.min(maxRetryDelay.toMillis(), retryDelay.toMillis() << Math.min(attempts - 1, 20));
+                row.setAvailableAt(LocalDateTime.now().plus(Duration.ofMillis(delayMillis)));
+                failed.increment();
+                log.warn("Event listener {} failed on {} #{} (attempt {}): {}",
+                        listener.getName(), row.getEventType(), row.getId(), attempts, message);
+            }
+        }
+
+        private static Counter handledCounter(MeterRegistry meterRegistry, String listener, String result) {
+            return Counter.builder("pms.events.handled")
+                    .description("Outbox events handled per listener and result")
+                    .tag("listener", listener)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
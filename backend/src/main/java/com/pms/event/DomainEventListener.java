@@ -0,0 +1,24 @@
+package com.pms.event;
+
+/**
+ * Asynchronous consumer of domain events. Each listener bean has its own outbox rows and relay threads,
+ * so a slow or failing listener only delays its own events.
+ */
+public interface DomainEventListener {
+
+    /**
+     * Name stored in the outbox and used for relay threads, per-listener settings (pms.events.listeners.NAME.*)
+     * and metric tags; renaming a listener orphans its pending events
+     */
+    String getName();
+
+    /**
+     * Whether this listener wants the event; checked on the publishing thread
+     */
+    boolean supports(DomainEvent event);
+
+    /**
+     * Handle an event in a new transaction; throw to have it retried. An event may be delivered more than once
+     */
+    void onEvent(DomainEvent event);
+}
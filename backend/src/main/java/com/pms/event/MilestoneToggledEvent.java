@@ -0,0 +1,35 @@
+package com.pms.event;
+
+/**
+ * A milestone was marked completed or reopened.
+ */
+public class MilestoneToggledEvent extends DomainEvent {
+
+    private final Long milestoneId;
+    private final Long projectId;
+    private final Long userId;
+    private final boolean completed;
+
+    public MilestoneToggledEvent(Long milestoneId, Long projectId, Long userId, boolean completed) {
+        this.milestoneId = milestoneId;
+        this.projectId = projectId;
+        this.userId = userId;
+        this.completed = completed;
+    }
+
+    public Long getMilestoneId() {
+        return milestoneId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,41 @@
+package com.pms.event;
+
+import com.pms.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates in-app notifications for task assignments and comments on assigned tasks.
+ */
+@Component
+public class NotificationEventListener implements DomainEventListener {
+
+    private final NotificationService notificationService;
+
+    @Autowired
+    public NotificationEventListener(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public String getName() {
+        return "notifications";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskAssignedEvent || event instanceof CommentAddedEvent;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        if (event instanceof TaskAssignedEvent assigned) {
+            notificationService.notifyTaskAssignment(assigned.getAssigneeId(), assigned.getTaskId(), assigned.getTaskTitle(), assigned.getProjectName());
+        } else if (event instanceof CommentAddedEvent comment) {
+            // Nobody to notify on unassigned tasks, or when assignees comment on their own tasks
+            if (comment.getTaskAssigneeId() != null && !comment.getTaskAssigneeId().equals(comment.getAuthorId())) {
+                notificationService.notifyNewComment(comment.getTaskAssigneeId(), comment.getTaskId(), comment.getAuthorName(), comment.getTaskTitle());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pms.event;
+
+/**
+ * A task was assigned to a user by someone else, on creation or reassignment.
+ */
+public class TaskAssignedEvent extends DomainEvent {
+
+    private final Long taskId;
+    private final Long projectId;
+    private final Long assigneeId;
+    private final Long assignedById;
+    private final String taskTitle;
+    private final String projectName;
+
+    public TaskAssignedEvent(Long taskId, Long projectId, Long assigneeId, Long assignedById, String taskTitle, String projectName) {
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.assigneeId = assigneeId;
+        this.assignedById = assignedById;
+        this.taskTitle = taskTitle;
+        this.projectName = projectName;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Long getAssignedById() {
+        return assignedById;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+}
@@ -0,0 +1,35 @@
+package com.pms.event;
+
+/**
+ * A task was created in a project.
+ */
+public class TaskCreatedEvent extends DomainEvent {
+
+    private final Long taskId;
+    private final Long projectId;
+    private final Long creatorId;
+    private final String taskTitle;
+
+    public TaskCreatedEvent(Long taskId, Long projectId, Long creatorId, String taskTitle) {
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.creatorId = creatorId;
+        this.taskTitle = taskTitle;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+}
@@ -0,0 +1,35 @@
+package com.pms.event;
+
+/**
+ * A user logged time on a task; batch ingestion publishes one event per task.
+ */
+public class TimeLoggedEvent extends DomainEvent {
+
+    private final Long taskId;
+    private final Long userId;
+    private final double hours;
+    private final int entries;
+
+    public TimeLoggedEvent(Long taskId, Long userId, double hours, int entries) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.hours = hours;
+        this.entries = entries;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public double getHours() {
+        return hours;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,20 @@
+package com.pms.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a controller endpoint may issue per request.
+ * Endpoints without this annotation use {@code pms.sql.budget.default}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * Maximum number of statements allowed for one request
+     */
+    int value();
+}
@@ -0,0 +1,131 @@
+package com.pms.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks SQL statements and JDBC time per request, records per-endpoint histograms
+ * and logs requests that exceed their statement budget.
+ * For async requests (e.g. streamed CSV downloads) only the statements issued before the handler
+ * returned are counted, and the thread-local stats are released before the thread is reused.
+ * Requests that already run inside a stats scope (e.g. SqlBudgetAssertions in tests) are counted
+ * by that scope and not recorded here.
+ */
+@Component
+public class SqlMonitoringInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMonitoringInterceptor.class);
+
+    /** Marks requests whose stats scope this interceptor opened and must close */
+    private static final String SCOPE_ATTRIBUTE = SqlMonitoringInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pms.sql.monitoring.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pms.sql.budget.default:25}")
+    private int defaultBudget;
+
+    @Value("${pms.sql.budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    public SqlMonitoringInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled && request.getDispatcherType() != DispatcherType.ASYNC && handler instanceof HandlerMethod handlerMethod
+                && SqlStatementStats.current() == null) {
+            SqlStatementStats.begin(resolveBudget(handlerMethod), failOnExceed);
+            request.setAttribute(SCOPE_ATTRIBUTE, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request, endScope(request));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request, endScope(request));
+    }
+
+    private SqlStatementStats endScope(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) == null) {
+            return null;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        return SqlStatementStats.end();
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats == null) {
+            return;
+        }
+
+        String method = request.getMethod();
+        String uri = resolveUriPattern(request);
+
+        DistributionSummary.builder("pms.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+
+        Timer.builder("pms.sql.time")
+                .description("JDBC execution time per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.isOverBudget()) {
+            meterRegistry.counter("pms.sql.budget.exceeded", "method", method, "uri", uri).increment();
+            log.warn("SQL budget exceeded for {} {}: {} statements (budget {}), {} ms in JDBC. First statements: {}",
+                    method, uri, stats.getStatementCount(), stats.getBudget(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getExecutionNanos()), stats.getSampledStatements());
+        }
+    }
+
+    private int resolveBudget(HandlerMethod handlerMethod) {
+        SqlBudget budget = findBudget(handlerMethod);
+        return budget != null ? budget.value() : defaultBudget;
+    }
+
+    /**
+     * The @SqlBudget of a handler method, or of its controller; null if neither declares one
+     */
+    static SqlBudget findBudget(HandlerMethod handlerMethod) {
+        SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), SqlBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+        }
+        return budget;
+    }
+
+    private String resolveUriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
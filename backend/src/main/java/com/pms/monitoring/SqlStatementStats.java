@@ -0,0 +1,84 @@
+package com.pms.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-request SQL statement counter bound to the current thread.
+ * Opened by {@link SqlMonitoringInterceptor} and fed by {@link SqlStatementCountingDataSource}.
+ */
+public final class SqlStatementStats {
+
+    private static final int MAX_SAMPLED_STATEMENTS = 10;
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final int budget;
+    private final boolean failOnExceed;
+    private int statementCount;
+    private long executionNanos;
+    private final List<String> sampledStatements = new ArrayList<>();
+
+    private SqlStatementStats(int budget, boolean failOnExceed) {
+        this.budget = budget;
+        this.failOnExceed = failOnExceed;
+    }
+
+    /**
+     * Start collecting statements for the current thread
+     */
+    public static SqlStatementStats begin(int budget, boolean failOnExceed) {
+        SqlStatementStats stats = new SqlStatementStats(budget, failOnExceed);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop collecting and return the stats gathered on the current thread (may be null)
+     */
+    public static SqlStatementStats end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        if (sampledStatements.size() < MAX_SAMPLED_STATEMENTS) {
+            sampledStatements.add(sql);
+        }
+        if (failOnExceed && isOverBudget()) {
+            throw new IllegalStateException("SQL statement budget exceeded: " + statementCount
+                    + " statements (budget " + budget + "). Last statement: " + sql);
+        }
+    }
+
+    void recordExecutionTime(long nanos) {
+        executionNanos += nanos;
+    }
+
+    public boolean isOverBudget() {
+        return statementCount > budget;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    public List<String> getSampledStatements() {
+        return Collections.unmodifiableList(sampledStatements);
+    }
+}
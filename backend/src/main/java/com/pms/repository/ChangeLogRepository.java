@@ -0,0 +1,21 @@
+package com.pms.repository;
+
+import com.pms.entity.ChangeLogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Delete entries older than the retention window
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.changedAt < :before")
+    int deleteByChangedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,11 +1,14 @@
 package com.pms.repository;
 
+import com.pms.dto.CommentSummaryDto;
 import com.pms.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,16 +32,48 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByIdWithTaskAndUser(@Param("id") Long id);
 
     /**
-     * Find all comments for a task with user details
+     * Find the newest comments for a task with user details (first page)
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId ORDER BY c.createdAt DESC")
-    List<Comment> findByTaskIdWithUserDetails(@Param("taskId") Long taskId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageByTaskId(@Param("taskId") Long taskId, Limit limit);
 
     /**
-     * Find all comments by user with task details
+     * Find comments for a task older than the given (createdAt, id) position with user details
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.task WHERE c.user.id = :userId ORDER BY c.createdAt DESC")
-    List<Comment> findByUserIdWithTaskDetails(@Param("userId") Long userId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId " +
+           "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageByTaskIdBefore(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Limit limit);
+
+    /**
+     * Find the newest comment summaries for a task without joining users or tasks (first page)
+     */
+    @Query("SELECT new com.pms.dto.CommentSummaryDto(c.id, c.user.id, c.text, c.createdAt, c.updatedAt) " +
+           "FROM Comment c WHERE c.task.id = :taskId ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentSummaryDto> findSummaryPageByTaskId(@Param("taskId") Long taskId, Limit limit);
+
+    /**
+     * Find comment summaries for a task older than the given (createdAt, id) position
+     */
+    @Query("SELECT new com.pms.dto.CommentSummaryDto(c.id, c.user.id, c.text, c.createdAt, c.updatedAt) " +
+           "FROM Comment c WHERE c.task.id = :taskId " +
+           "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentSummaryDto> findSummaryPageByTaskIdBefore(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id, Limit limit);
+
+    /**
+     * Find the newest comments by a user with task details (first page)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.task WHERE c.user.id = :userId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Find comments by a user older than the given (createdAt, id) position with task details
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.task WHERE c.user.id = :userId " +
+           "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageByUserIdBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Limit limit);
 
     /**
      * Count comments for a task
@@ -1,12 +1,16 @@
 package com.pms.repository;
 
+import com.pms.dto.MilestoneProgressDto;
 import com.pms.entity.Milestone;
+import com.pms.entity.Project;
+import com.pms.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,14 +45,24 @@ public interface MilestoneRepository extends JpaRepository<Milestone, Long> {
     List<Milestone> findUpcomingMilestones(@Param("projectId") Long projectId, @Param("today") LocalDate today, @Param("thirtyDaysLater") LocalDate thirtyDaysLater);
 
     /**
-     * Count completed milestones for a project
+     * Completed and total milestones of each project in one conditional aggregate.
+     * Projects without milestones are included with zero counts.
      */
-    long countByProjectIdAndCompletedTrue(Long projectId);
+    @Query("SELECT new com.pms.dto.MilestoneProgressDto(p.id, COUNT(m.id), COUNT(m.id) FILTER (WHERE m.completed = true)) " +
+           "FROM Project p LEFT JOIN Milestone m ON m.project = p " +
+           "WHERE p.id IN :projectIds GROUP BY p.id")
+    List<MilestoneProgressDto> findProgressByProjectIds(@Param("projectIds") Collection<Long> projectIds);
 
     /**
-     * Count total milestones for a project
+     * Milestone progress limited to projects the user created or public projects
      */
-    long countByProjectId(Long projectId);
+    @Query("SELECT new com.pms.dto.MilestoneProgressDto(p.id, COUNT(m.id), COUNT(m.id) FILTER (WHERE m.completed = true)) " +
+           "FROM Project p LEFT JOIN Milestone m ON m.project = p " +
+           "WHERE p.id IN :projectIds AND (p.creator = :user OR p.visibility = :visibility) " +
+           "GROUP BY p.id")
+    List<MilestoneProgressDto> findAccessibleProgressByProjectIds(@Param("projectIds") Collection<Long> projectIds,
+                                                                   @Param("user") User user,
+                                                                   @Param("visibility") Project.Visibility visibility);
 
     /**
      * Find milestone by ID with project details
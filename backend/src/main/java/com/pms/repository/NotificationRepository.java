@@ -1,43 +1,149 @@
 package com.pms.repository;
 
+import com.pms.dto.NotificationDto;
 import com.pms.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Notifications are partitioned by month of created_at (see V16__partition_notifications.sql).
+ * Reads take a lower bound on createdAt so PostgreSQL only scans the partitions it covers.
+ */
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * Find all notifications for a user ordered by creation date (newest first)
+     * Find the newest notifications of a user created since the given time (first page), optionally of one type.
+     * Projects straight into DTOs without loading entities or the user
+     */
+    @Query("SELECT new com.pms.dto.NotificationDto(n.id, n.user.id, n.message, n.read, n.createdAt, " +
+           "CAST(n.type AS String), n.taskId, n.eventCount, n.lastEventAt) " +
+           "FROM Notification n WHERE n.user.id = :userId AND n.createdAt >= :since " +
+           "AND (:type IS NULL OR n.type = :type) ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findPageByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+                                           @Param("type") Notification.Type type, Limit limit);
+
+    /**
+     * Find notifications of a user created since the given time and older than the (createdAt, id) position
+     */
+    @Query("SELECT new com.pms.dto.NotificationDto(n.id, n.user.id, n.message, n.read, n.createdAt, " +
+           "CAST(n.type AS String), n.taskId, n.eventCount, n.lastEventAt) " +
+           "FROM Notification n WHERE n.user.id = :userId AND n.createdAt >= :since " +
+           "AND (:type IS NULL OR n.type = :type) " +
+           "AND n.createdAt <= :createdAt AND (n.createdAt < :createdAt OR n.id < :id) ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findPageByUserIdBefore(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+                                                 @Param("type") Notification.Type type,
+                                                 @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * Find the newest read or unread notifications of a user created since the given time (first page),
+     * optionally of one type. Served by idx_notifications_user_read_created
      */
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT new com.pms.dto.NotificationDto(n.id, n.user.id, n.message, n.read, n.createdAt, " +
+           "CAST(n.type AS String), n.taskId, n.eventCount, n.lastEventAt) " +
+           "FROM Notification n WHERE n.user.id = :userId AND n.read = :read AND n.createdAt >= :since " +
+           "AND (:type IS NULL OR n.type = :type) ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findPageByUserIdAndRead(@Param("userId") Long userId, @Param("read") boolean read,
+                                                  @Param("since") LocalDateTime since, @Param("type") Notification.Type type,
+                                                  Limit limit);
 
     /**
-     * Find unread notifications for a user
+     * Find read or unread notifications of a user created since the given time and older than the (createdAt, id) position
      */
-    List<Notification> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT new com.pms.dto.NotificationDto(n.id, n.user.id, n.message, n.read, n.createdAt, " +
+           "CAST(n.type AS String), n.taskId, n.eventCount, n.lastEventAt) " +
+           "FROM Notification n WHERE n.user.id = :userId AND n.read = :read AND n.createdAt >= :since " +
+           "AND (:type IS NULL OR n.type = :type) " +
+           "AND n.createdAt <= :createdAt AND (n.createdAt < :createdAt OR n.id < :id) ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDto> findPageByUserIdAndReadBefore(@Param("userId") Long userId, @Param("read") boolean read,
+                                                        @Param("since") LocalDateTime since, @Param("type") Notification.Type type,
+                                                        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                        Limit limit);
 
     /**
-     * Count unread notifications for a user
+     * Lock the newest unread notification of a type about a task created since the given time, to merge another event into it
      */
-    long countByUserIdAndReadFalse(Long userId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.taskId = :taskId AND n.type = :type " +
+           "AND n.read = false AND n.createdAt >= :since ORDER BY n.createdAt DESC")
+    List<Notification> findCoalescible(@Param("userId") Long userId, @Param("taskId") Long taskId,
+                                       @Param("type") Notification.Type type, @Param("since") LocalDateTime since, Limit limit);
 
     /**
-     * Mark all notifications as read for a user
+     * Count unread notifications of a user created since the given time
+     */
+    long countByUserIdAndReadFalseAndCreatedAtGreaterThanEqual(Long userId, LocalDateTime since);
+
+    /**
+     * Mark all notifications as read for a user; rows that are already read are not rewritten
      */
     @Modifying
-    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId")
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
     void markAllAsReadByUserId(@Param("userId") Long userId);
 
     /**
      * Mark a specific notification as read
      */
     @Modifying
-    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.user.id = :userId")
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.user.id = :userId AND n.read = false")
     void markAsReadByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * Mark the given unread notifications of a user created since the given time as read; returns how many changed
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false " +
+           "AND n.createdAt >= :since AND n.id IN :ids")
+    int markAsReadByIdsAndUserId(@Param("ids") List<Long> ids, @Param("userId") Long userId,
+                                 @Param("since") LocalDateTime since);
+
+    /**
+     * Mark unread notifications of a user created since the given time whose latest event is at or before upTo as read,
+     * so a coalesced notification that gained events after upTo stays unread; returns how many changed
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false " +
+           "AND n.createdAt >= :since AND COALESCE(n.lastEventAt, n.createdAt) <= :upTo")
+    int markAsReadUpToByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+                               @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Move up to limit notifications created before readBefore that are read, or created before allBefore,
+     * into notifications_archive. Rows locked by a concurrent run are skipped
+     */
+    @Modifying
+    @Query(value = "WITH batch AS (SELECT id, created_at FROM notifications " +
+                   "  WHERE created_at < :readBefore AND (read_status OR created_at < :allBefore) " +
+                   "  ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+                   "moved AS (DELETE FROM notifications n USING batch b WHERE n.id = b.id AND n.created_at = b.created_at " +
+                   "  RETURNING n.id, n.user_id, n.message, n.read_status, n.created_at, n.type, n.task_id, n.event_count, n.last_event_at) " +
+                   "INSERT INTO notifications_archive (id, user_id, message, read_status, created_at, type, task_id, event_count, last_event_at) " +
+                   "SELECT id, user_id, message, read_status, created_at, type, task_id, event_count, last_event_at " +
+                   "FROM moved ON CONFLICT (id) DO NOTHING",
+           nativeQuery = true)
+    int archiveBatch(@Param("readBefore") LocalDateTime readBefore, @Param("allBefore") LocalDateTime allBefore,
+                     @Param("limit") int limit);
+
+    /**
+     * Create monthly partitions from the given month up to monthsAhead months after the current one
+     */
+    @Query(value = "SELECT ensure_notification_partitions(:from, :monthsAhead)", nativeQuery = true)
+    int ensurePartitions(@Param("from") LocalDate from, @Param("monthsAhead") int monthsAhead);
+
+    /**
+     * Drop monthly partitions ending before the given time that no longer hold rows
+     */
+    @Query(value = "SELECT drop_empty_notification_partitions(:before)", nativeQuery = true)
+    int dropEmptyPartitionsBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,28 @@
+package com.pms.repository;
+
+import com.pms.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the oldest due events of a listener, skipping rows another relay has already locked.
+     * The locks are held until the calling transaction ends
+     */
+    @Query(value = "SELECT * FROM event_outbox WHERE listener = :listener AND failed_at IS NULL AND available_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> claimDue(@Param("listener") String listener, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Count events still to be handled by a listener
+     */
+    long countByListenerAndFailedAtIsNull(String listener);
+}
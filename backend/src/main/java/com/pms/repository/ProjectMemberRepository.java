@@ -2,8 +2,11 @@ package com.pms.repository;
 
 import com.pms.entity.ProjectMember;
 import com.pms.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -24,8 +27,9 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     List<ProjectMember> findByUserIdOrderByJoinedAtDesc(Long userId);
 
     /**
-     * Check if user is a member of a project
+     * Check if user is a member of a project (result cached in the query cache)
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     boolean existsByProjectIdAndUserId(Long projectId, Long userId);
 
     /**
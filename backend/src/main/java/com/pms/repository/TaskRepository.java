@@ -1,21 +1,26 @@
 package com.pms.repository;
 
+import com.pms.entity.Project;
 import com.pms.entity.Task;
 import com.pms.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     /**
-     * Find all tasks for a specific project
+     * Find all tasks for a specific project in board order
      */
-    List<Task> findByProjectIdOrderByCreatedAtDesc(Long projectId);
+    List<Task> findByProjectIdOrderByRankAscIdAsc(Long projectId);
 
     /**
      * Find tasks by status for a specific project
@@ -37,6 +42,69 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     long countByProjectId(Long projectId);
 
+    /**
+     * Of the given task IDs, return those that exist
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Of the given task IDs, return those the user can access: own projects, public projects or assigned tasks
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND (t.project.creator = :user " +
+           "OR t.project.visibility = :visibility OR t.assignedTo = :user)")
+    List<Long> findAccessibleIds(@Param("ids") Collection<Long> ids, @Param("user") User user,
+                                 @Param("visibility") Project.Visibility visibility);
+
+    /**
+     * Highest rank in a board column, or null if the column is empty
+     */
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
+    String findLastRank(@Param("projectId") Long projectId, @Param("status") Task.Status status);
+
+    /**
+     * Rank of the first task after the given rank in a board column, ignoring one task (the one being moved)
+     */
+    @Query("SELECT MIN(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+           "AND t.rank > :rank AND t.id <> :excludedId")
+    String findRankAfter(@Param("projectId") Long projectId, @Param("status") Task.Status status,
+                         @Param("rank") String rank, @Param("excludedId") Long excludedId);
+
+    /**
+     * Rank of the last task before the given rank in a board column, ignoring one task (the one being moved)
+     */
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+           "AND t.rank < :rank AND t.id <> :excludedId")
+    String findRankBefore(@Param("projectId") Long projectId, @Param("status") Task.Status status,
+                          @Param("rank") String rank, @Param("excludedId") Long excludedId);
+
+    /**
+     * Share-lock a task whose rank a move is placed against, so a column rebalance cannot change it meanwhile
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForShare(@Param("id") Long id);
+
+    /**
+     * Lock every task of a board column in board order, to respace their ranks
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.status = :status ORDER BY t.rank, t.id")
+    List<Task> findColumnForUpdate(@Param("projectId") Long projectId, @Param("status") Task.Status status);
+
+    /**
+     * Board columns, as (projectId, status) pairs, holding a rank longer than maxLength or duplicate ranks
+     */
+    @Query("SELECT t.project.id, t.status FROM Task t GROUP BY t.project.id, t.status " +
+           "HAVING MAX(LENGTH(t.rank)) > :maxLength OR COUNT(t) > COUNT(DISTINCT t.rank)")
+    List<Object[]> findColumnsToRebalance(@Param("maxLength") int maxLength);
+
+    /**
+     * Find the IDs of all tasks in a project
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
     /**
      * Find overdue tasks (due date is before today and status is not COMPLETED)
      */
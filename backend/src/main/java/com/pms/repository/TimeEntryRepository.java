@@ -44,22 +44,4 @@ public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
      */
     @Query("SELECT te FROM TimeEntry te JOIN FETCH te.task WHERE te.user.id = :userId ORDER BY te.createdAt DESC")
     List<TimeEntry> findByUserIdWithTaskDetails(@Param("userId") Long userId);
-
-    /**
-     * Calculate total hours spent on a task
-     */
-    @Query("SELECT COALESCE(SUM(te.hoursSpent), 0.0) FROM TimeEntry te WHERE te.task.id = :taskId")
-    Double getTotalHoursByTaskId(@Param("taskId") Long taskId);
-
-    /**
-     * Calculate total hours spent by a user on a task
-     */
-    @Query("SELECT COALESCE(SUM(te.hoursSpent), 0.0) FROM TimeEntry te WHERE te.task.id = :taskId AND te.user.id = :userId")
-    Double getTotalHoursByTaskIdAndUserId(@Param("taskId") Long taskId, @Param("userId") Long userId);
-
-    /**
-     * Calculate total hours spent by a user across all tasks
-     */
-    @Query("SELECT COALESCE(SUM(te.hoursSpent), 0.0) FROM TimeEntry te WHERE te.user.id = :userId")
-    Double getTotalHoursByUserId(@Param("userId") Long userId);
-} 
\ No newline at end of file
+}
\ No newline at end of file
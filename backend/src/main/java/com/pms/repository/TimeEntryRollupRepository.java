@@ -0,0 +1,184 @@
+package com.pms.repository;
+
+import com.pms.entity.TimeEntry;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Pre-aggregated time entry totals (time_*_totals tables). Each add* call upserts one rollup row
+ * and must run in the same transaction as the time entry insert it accounts for.
+ */
+@Repository
+public interface TimeEntryRollupRepository extends org.springframework.data.repository.Repository<TimeEntry, Long> {
+
+    /**
+     * Add hours to a task's total
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_task_totals (task_id, total_hours, entry_count, updated_at) " +
+                   "VALUES (:taskId, :hours, :entries, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (task_id) DO UPDATE SET total_hours = time_task_totals.total_hours + EXCLUDED.total_hours, " +
+                   "entry_count = time_task_totals.entry_count + EXCLUDED.entry_count, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int addToTaskTotal(@Param("taskId") Long taskId, @Param("hours") double hours, @Param("entries") long entries);
+
+    /**
+     * Add hours to a user's total
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_user_totals (user_id, total_hours, entry_count, updated_at) " +
+                   "VALUES (:userId, :hours, :entries, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET total_hours = time_user_totals.total_hours + EXCLUDED.total_hours, " +
+                   "entry_count = time_user_totals.entry_count + EXCLUDED.entry_count, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int addToUserTotal(@Param("userId") Long userId, @Param("hours") double hours, @Param("entries") long entries);
+
+    /**
+     * Add hours to a user's total on a task
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_task_user_totals (task_id, user_id, total_hours, entry_count, updated_at) " +
+                   "VALUES (:taskId, :userId, :hours, :entries, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (task_id, user_id) DO UPDATE SET total_hours = time_task_user_totals.total_hours + EXCLUDED.total_hours, " +
+                   "entry_count = time_task_user_totals.entry_count + EXCLUDED.entry_count, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int addToTaskUserTotal(@Param("taskId") Long taskId, @Param("userId") Long userId,
+                           @Param("hours") double hours, @Param("entries") long entries);
+
+    /**
+     * Add hours to a user's total for one day
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_user_daily_totals (user_id, day, total_hours, entry_count, updated_at) " +
+                   "VALUES (:userId, :day, :hours, :entries, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (user_id, day) DO UPDATE SET total_hours = time_user_daily_totals.total_hours + EXCLUDED.total_hours, " +
+                   "entry_count = time_user_daily_totals.entry_count + EXCLUDED.entry_count, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int addToUserDailyTotal(@Param("userId") Long userId, @Param("day") LocalDate day,
+                            @Param("hours") double hours, @Param("entries") long entries);
+
+    /**
+     * Take the entries of tasks about to be deleted out of the user and daily totals
+     * (task-keyed totals are removed by ON DELETE CASCADE)
+     */
+    @Modifying
+    @Query(value = "UPDATE time_user_totals u SET total_hours = u.total_hours - s.hours, entry_count = u.entry_count - s.entries, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT user_id, SUM(hours_spent) AS hours, COUNT(*) AS entries FROM time_entries " +
+                   "WHERE task_id IN (:taskIds) GROUP BY user_id) s WHERE u.user_id = s.user_id",
+           nativeQuery = true)
+    int subtractTasksFromUserTotals(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Take the entries of tasks about to be deleted out of the daily user totals
+     */
+    @Modifying
+    @Query(value = "UPDATE time_user_daily_totals d SET total_hours = d.total_hours - s.hours, entry_count = d.entry_count - s.entries, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT user_id, CAST(created_at AS DATE) AS day, SUM(hours_spent) AS hours, COUNT(*) AS entries FROM time_entries " +
+                   "WHERE task_id IN (:taskIds) GROUP BY user_id, CAST(created_at AS DATE)) s " +
+                   "WHERE d.user_id = s.user_id AND d.day = s.day",
+           nativeQuery = true)
+    int subtractTasksFromUserDailyTotals(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Total hours spent on a task
+     */
+    @Query(value = "SELECT COALESCE((SELECT total_hours FROM time_task_totals WHERE task_id = :taskId), 0.0)", nativeQuery = true)
+    Double getTotalHoursByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Total hours spent by a user across all tasks
+     */
+    @Query(value = "SELECT COALESCE((SELECT total_hours FROM time_user_totals WHERE user_id = :userId), 0.0)", nativeQuery = true)
+    Double getTotalHoursByUserId(@Param("userId") Long userId);
+
+    /**
+     * Total hours spent by a user on a task
+     */
+    @Query(value = "SELECT COALESCE((SELECT total_hours FROM time_task_user_totals WHERE task_id = :taskId AND user_id = :userId), 0.0)",
+           nativeQuery = true)
+    Double getTotalHoursByTaskIdAndUserId(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    /**
+     * Block time entry inserts until the end of the transaction so reconciliation sees a stable table
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE time_entries IN SHARE MODE", nativeQuery = true)
+    void lockTimeEntries();
+
+    /**
+     * Rewrite task totals that drifted from time_entries; returns the number of rows corrected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_task_totals (task_id, total_hours, entry_count, updated_at) " +
+                   "SELECT task_id, SUM(hours_spent), COUNT(*), CURRENT_TIMESTAMP FROM time_entries GROUP BY task_id " +
+                   "ON CONFLICT (task_id) DO UPDATE SET total_hours = EXCLUDED.total_hours, entry_count = EXCLUDED.entry_count, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE time_task_totals.entry_count <> EXCLUDED.entry_count " +
+                   "OR ABS(time_task_totals.total_hours - EXCLUDED.total_hours) > 1e-6",
+           nativeQuery = true)
+    int reconcileTaskTotals();
+
+    /**
+     * Rewrite user totals that drifted from time_entries; returns the number of rows corrected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_user_totals (user_id, total_hours, entry_count, updated_at) " +
+                   "SELECT user_id, SUM(hours_spent), COUNT(*), CURRENT_TIMESTAMP FROM time_entries GROUP BY user_id " +
+                   "ON CONFLICT (user_id) DO UPDATE SET total_hours = EXCLUDED.total_hours, entry_count = EXCLUDED.entry_count, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE time_user_totals.entry_count <> EXCLUDED.entry_count " +
+                   "OR ABS(time_user_totals.total_hours - EXCLUDED.total_hours) > 1e-6",
+           nativeQuery = true)
+    int reconcileUserTotals();
+
+    /**
+     * Rewrite task/user totals that drifted from time_entries; returns the number of rows corrected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_task_user_totals (task_id, user_id, total_hours, entry_count, updated_at) " +
+                   "SELECT task_id, user_id, SUM(hours_spent), COUNT(*), CURRENT_TIMESTAMP FROM time_entries GROUP BY task_id, user_id " +
+                   "ON CONFLICT (task_id, user_id) DO UPDATE SET total_hours = EXCLUDED.total_hours, entry_count = EXCLUDED.entry_count, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE time_task_user_totals.entry_count <> EXCLUDED.entry_count " +
+                   "OR ABS(time_task_user_totals.total_hours - EXCLUDED.total_hours) > 1e-6",
+           nativeQuery = true)
+    int reconcileTaskUserTotals();
+
+    /**
+     * Rewrite daily user totals that drifted from time_entries; returns the number of rows corrected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_user_daily_totals (user_id, day, total_hours, entry_count, updated_at) " +
+                   "SELECT user_id, CAST(created_at AS DATE), SUM(hours_spent), COUNT(*), CURRENT_TIMESTAMP FROM time_entries " +
+                   "GROUP BY user_id, CAST(created_at AS DATE) " +
+                   "ON CONFLICT (user_id, day) DO UPDATE SET total_hours = EXCLUDED.total_hours, entry_count = EXCLUDED.entry_count, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE time_user_daily_totals.entry_count <> EXCLUDED.entry_count " +
+                   "OR ABS(time_user_daily_totals.total_hours - EXCLUDED.total_hours) > 1e-6",
+           nativeQuery = true)
+    int reconcileUserDailyTotals();
+
+    /**
+     * Remove user totals with no remaining time entries; returns the number of rows removed
+     */
+    @Modifying
+    @Query(value = "DELETE FROM time_user_totals u WHERE NOT EXISTS (SELECT 1 FROM time_entries te WHERE te.user_id = u.user_id)",
+           nativeQuery = true)
+    int deleteOrphanedUserTotals();
+
+    /**
+     * Remove daily user totals with no remaining time entries; returns the number of rows removed
+     */
+    @Modifying
+    @Query(value = "DELETE FROM time_user_daily_totals d WHERE NOT EXISTS (SELECT 1 FROM time_entries te " +
+                   "WHERE te.user_id = d.user_id AND CAST(te.created_at AS DATE) = d.day)",
+           nativeQuery = true)
+    int deleteOrphanedUserDailyTotals();
+}
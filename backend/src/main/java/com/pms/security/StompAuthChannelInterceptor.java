@@ -0,0 +1,98 @@
+package com.pms.security;
+
+import com.pms.entity.User;
+import com.pms.repository.UserRepository;
+import com.pms.service.BoardUpdatePublisher;
+import com.pms.service.ProjectService;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+
+/**
+ * Authenticates STOMP sessions and authorizes subscriptions. Browsers cannot set headers on the
+ * WebSocket handshake, so the JWT is sent as the Authorization header of the STOMP CONNECT frame.
+ * Subscriptions are only allowed to /topic/projects/{id} of projects the user can view, and clients
+ * may not SEND, so they cannot broadcast to other subscribers.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+
+    @Autowired
+    public StompAuthChannelInterceptor(JwtUtil jwtUtil, UserRepository userRepository, @Lazy ProjectService projectService) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.projectService = projectService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SUBSCRIBE -> authorizeSubscription(accessor);
+            case SEND -> throw new MessageDeliveryException("Sending messages is not supported");
+            default -> { }
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            throw new MessageDeliveryException("Missing bearer token");
+        }
+        String jwt = authorizationHeader.substring(7);
+        try {
+            String username = jwtUtil.extractUsername(jwt);
+            String role = jwtUtil.extractRole(jwt);
+            User user = userRepository.findByEmail(username).orElse(null);
+            if (user == null || !jwtUtil.validateToken(jwt)) {
+                throw new MessageDeliveryException("Invalid token");
+            }
+            return new UsernamePasswordAuthenticationToken(
+                    user, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new MessageDeliveryException("Invalid token");
+        }
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof UsernamePasswordAuthenticationToken authentication)
+                || !(authentication.getPrincipal() instanceof User user)) {
+            throw new MessageDeliveryException("Not authenticated");
+        }
+        Long projectId = projectIdOf(accessor.getDestination());
+        if (projectId == null || !projectService.canViewProject(projectId, user)) {
+            throw new MessageDeliveryException("Project not found or access denied");
+        }
+    }
+
+    private static Long projectIdOf(String destination) {
+        if (destination == null || !destination.startsWith(BoardUpdatePublisher.PROJECT_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(BoardUpdatePublisher.PROJECT_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
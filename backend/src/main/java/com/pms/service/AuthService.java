@@ -1,5 +1,7 @@
 package com.pms.service;
 
+import com.pms.cache.CacheInvalidationBus;
+import com.pms.cache.CacheInvalidationEvent;
 import com.pms.dto.AuthRequest;
 import com.pms.dto.AuthResponse;
 import com.pms.entity.User;
@@ -27,6 +29,9 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
     public AuthResponse register(AuthRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             return new AuthResponse("Email already registered");
@@ -39,6 +44,8 @@ public class AuthService {
         user.setRole(User.Role.USER); // Default role
 
         User savedUser = userRepository.save(user);
+        // Other instances may hold a cached negative result for this email
+        cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.USER, savedUser.getId());
 
         String token = jwtUtil.generateToken(user, user.getRole().name());
         return new AuthResponse(token, savedUser.getEmail(), savedUser.getName(), savedUser.getRole().name(), savedUser.getId());
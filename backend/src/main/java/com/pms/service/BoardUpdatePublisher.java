@@ -0,0 +1,100 @@
+package com.pms.service;
+
+import com.pms.dto.BoardEventDto;
+import com.pms.dto.CommentDto;
+import com.pms.dto.TaskDto;
+import com.pms.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Broadcasts task and comment changes to the STOMP topic of their project (see WebSocketConfig).
+ * Events are sent after the surrounding transaction commits and dropped on rollback. Delivery is
+ * best effort: clients that miss an update catch up through the delta sync API.
+ */
+@Service
+public class BoardUpdatePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardUpdatePublisher.class);
+
+    public static final String PROJECT_TOPIC_PREFIX = "/topic/projects/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    public BoardUpdatePublisher(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * Announce a created or updated task with its current state
+     */
+    public void publishTask(BoardEventDto.Type type, TaskDto task, User actor) {
+        BoardEventDto event = new BoardEventDto(type, task.getProjectId(), task.getId(), null, actor.getId());
+        event.setTask(task);
+        publish(event);
+    }
+
+    /**
+     * Announce a deleted task
+     */
+    public void publishTaskDeleted(Long projectId, Long taskId, User actor) {
+        publish(new BoardEventDto(BoardEventDto.Type.TASK_DELETED, projectId, taskId, null, actor.getId()));
+    }
+
+    /**
+     * Announce the new ranks (and versions) of the tasks re-ranked by respacing a board column;
+     * actor is null when a background job rebalanced it
+     */
+    public void publishColumnRebalanced(Long projectId, List<TaskDto> tasks, User actor) {
+        BoardEventDto event = new BoardEventDto(BoardEventDto.Type.COLUMN_REBALANCED, projectId, null, null,
+                actor != null ? actor.getId() : null);
+        event.setTasks(tasks);
+        publish(event);
+    }
+
+    /**
+     * Announce an added or updated comment with its current state
+     */
+    public void publishComment(BoardEventDto.Type type, Long projectId, CommentDto comment, User actor) {
+        BoardEventDto event = new BoardEventDto(type, projectId, comment.getTaskId(), comment.getId(), actor.getId());
+        event.setComment(comment);
+        publish(event);
+    }
+
+    /**
+     * Announce a deleted comment
+     */
+    public void publishCommentDeleted(Long projectId, Long taskId, Long commentId, User actor) {
+        publish(new BoardEventDto(BoardEventDto.Type.COMMENT_DELETED, projectId, taskId, commentId, actor.getId()));
+    }
+
+    private void publish(BoardEventDto event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(BoardEventDto event) {
+        try {
+            messagingTemplate.convertAndSend(PROJECT_TOPIC_PREFIX + event.getProjectId(), event);
+        } catch (MessagingException e) {
+            log.warn("Failed to broadcast {} for project {}", event.getType(), event.getProjectId(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.pms.service;
+
+import com.pms.repository.ChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Nightly removal of change log entries older than the sync retention. Clients holding an older
+ * cursor get 410 Gone from the sync endpoint and reload in full.
+ */
+@Component
+@ConditionalOnProperty(name = "pms.sync.prune.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogPruner {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogPruner.class);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration retention;
+
+    @Autowired
+    public ChangeLogPruner(ChangeLogRepository changeLogRepository, @Value("${pms.sync.retention:30d}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * Delete entries past the retention window
+     */
+    @Scheduled(cron = "${pms.sync.prune.cron:0 0 3 * * *}")
+    @Transactional
+    public void prune() {
+        int deleted = changeLogRepository.deleteByChangedAtBefore(LocalDateTime.now().minus(retention));
+        log.info("Pruned {} change log entries older than {}", deleted, retention);
+    }
+}
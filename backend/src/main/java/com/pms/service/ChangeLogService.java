@@ -0,0 +1,43 @@
+package com.pms.service;
+
+import com.pms.entity.ChangeLogEntry;
+import com.pms.entity.Project;
+import com.pms.repository.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records changes for the delta sync feed. Must run inside the transaction that makes the change,
+ * so an entry exists exactly when the change committed.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ChangeLogService {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    public ChangeLogService(ChangeLogRepository changeLogRepository) {
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    /**
+     * Record a change of an entity belonging to the given project
+     */
+    public void record(ChangeLogEntry.EntityType entityType, Long entityId, Project project, ChangeLogEntry.Operation operation) {
+        changeLogRepository.save(new ChangeLogEntry(entityType, entityId, project, operation));
+    }
+
+    /**
+     * Record an update of a project whose visibility may have changed. Users who could see the project
+     * before the change keep receiving its entries, so a project made private is reported as deleted to them
+     */
+    public void recordProjectUpdate(Project project, Project.Visibility previousVisibility) {
+        ChangeLogEntry entry = new ChangeLogEntry(ChangeLogEntry.EntityType.PROJECT, project.getId(), project,
+                ChangeLogEntry.Operation.UPDATED);
+        entry.setProjectPublic(entry.isProjectPublic() || previousVisibility == Project.Visibility.PUBLIC);
+        changeLogRepository.save(entry);
+    }
+}
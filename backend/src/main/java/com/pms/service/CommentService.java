@@ -1,35 +1,54 @@
 package com.pms.service;
 
+import com.pms.dto.BoardEventDto;
 import com.pms.dto.CommentDto;
+import com.pms.dto.CommentSummaryDto;
+import com.pms.dto.CommentThreadDto;
+import com.pms.dto.CursorPage;
+import com.pms.dto.UserDto;
+import com.pms.entity.ChangeLogEntry;
 import com.pms.entity.Comment;
 import com.pms.entity.Task;
 import com.pms.entity.User;
+import com.pms.event.CommentAddedEvent;
+import com.pms.event.DomainEventBus;
 import com.pms.repository.CommentRepository;
 import com.pms.repository.TaskRepository;
 import com.pms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class CommentService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final DomainEventBus domainEventBus;
+    private final ChangeLogService changeLogService;
+    private final BoardUpdatePublisher boardUpdatePublisher;
 
     @Autowired
-    public CommentService(CommentRepository commentRepository, TaskRepository taskRepository, UserRepository userRepository, NotificationService notificationService) {
+    public CommentService(CommentRepository commentRepository, TaskRepository taskRepository, UserRepository userRepository, DomainEventBus domainEventBus,
+                          ChangeLogService changeLogService, BoardUpdatePublisher boardUpdatePublisher) {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
-        this.notificationService = notificationService;
+        this.domainEventBus = domainEventBus;
+        this.changeLogService = changeLogService;
+        this.boardUpdatePublisher = boardUpdatePublisher;
     }
 
     /**
@@ -44,30 +63,72 @@ public class CommentService {
             comment.setText(commentDto.getText());
             
             Comment savedComment = commentRepository.save(comment);
+            recordChange(savedComment, ChangeLogEntry.Operation.CREATED);
             
-            // Send notification to task assignee if different from commenter
             User taskAssignee = task.get().getAssignedTo();
-            if (taskAssignee != null && !taskAssignee.equals(currentUser)) {
-                notificationService.notifyNewComment(taskAssignee, currentUser.getName(), task.get().getTitle());
-            }
+            domainEventBus.publish(new CommentAddedEvent(savedComment.getId(), taskId, currentUser.getId(), currentUser.getName(),
+                    task.get().getTitle(), taskAssignee != null ? taskAssignee.getId() : null));
             
-            return Optional.of(convertToDto(savedComment));
+            CommentDto dto = convertToDto(savedComment);
+            boardUpdatePublisher.publishComment(BoardEventDto.Type.COMMENT_ADDED, task.get().getProject().getId(), dto, currentUser);
+            return Optional.of(dto);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get a page of comments for a task, newest first
+     * Throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public Optional<CursorPage<CommentDto>> getCommentsByTaskId(Long taskId, String cursor, Integer limit, User currentUser) {
+        Optional<Task> task = taskRepository.findById(taskId);
+        if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
+            int pageSize = pageSize(limit);
+            // Fetch one extra row to learn whether another page exists without counting
+            List<Comment> comments;
+            if (cursor == null || cursor.isBlank()) {
+                comments = commentRepository.findPageByTaskId(taskId, Limit.of(pageSize + 1));
+            } else {
+                KeysetCursor position = KeysetCursor.decode(cursor);
+                comments = commentRepository.findPageByTaskIdBefore(taskId, position.getCreatedAt(), position.getId(), Limit.of(pageSize + 1));
+            }
+            return Optional.of(toDtoPage(comments, pageSize));
         }
         return Optional.empty();
     }
 
     /**
-     * Get all comments for a task
+     * Get a compact page of comments for a task: comments carry only the author ID,
+     * with the task header and the page's authors sent once
+     * Throws IllegalArgumentException if the cursor is malformed
      */
-    public List<CommentDto> getCommentsByTaskId(Long taskId, User currentUser) {
+    @Transactional(readOnly = true)
+    public Optional<CommentThreadDto> getCommentThreadByTaskId(Long taskId, String cursor, Integer limit, User currentUser) {
         Optional<Task> task = taskRepository.findById(taskId);
         if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
-            List<Comment> comments = commentRepository.findByTaskIdWithUserDetails(taskId);
-            return comments.stream()
-                    .map(this::convertToDto)
+            int pageSize = pageSize(limit);
+            List<CommentSummaryDto> comments;
+            if (cursor == null || cursor.isBlank()) {
+                comments = commentRepository.findSummaryPageByTaskId(taskId, Limit.of(pageSize + 1));
+            } else {
+                KeysetCursor position = KeysetCursor.decode(cursor);
+                comments = commentRepository.findSummaryPageByTaskIdBefore(taskId, position.getCreatedAt(), position.getId(), Limit.of(pageSize + 1));
+            }
+            CursorPage<CommentSummaryDto> page = toPage(comments, pageSize,
+                    comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
+
+            List<Long> userIds = page.getItems().stream()
+                    .map(CommentSummaryDto::getUserId)
+                    .distinct()
                     .collect(Collectors.toList());
+            Map<Long, UserDto> users = userRepository.findAllById(userIds).stream()
+                    .collect(Collectors.toMap(User::getId, this::convertToUserDto));
+
+            return Optional.of(new CommentThreadDto(taskId, task.get().getTitle(), users,
+                    page.getItems(), page.getNextCursor(), page.isHasMore()));
         }
-        return List.of();
+        return Optional.empty();
     }
 
     /**
@@ -80,7 +141,10 @@ public class CommentService {
             comment.setText(commentDto.getText());
             
             Comment savedComment = commentRepository.save(comment);
-            return Optional.of(convertToDto(savedComment));
+            recordChange(savedComment, ChangeLogEntry.Operation.UPDATED);
+            CommentDto dto = convertToDto(savedComment);
+            boardUpdatePublisher.publishComment(BoardEventDto.Type.COMMENT_UPDATED, comment.getTask().getProject().getId(), dto, currentUser);
+            return Optional.of(dto);
         }
         return Optional.empty();
     }
@@ -91,7 +155,10 @@ public class CommentService {
     public boolean deleteComment(Long commentId, User currentUser) {
         Optional<Comment> comment = commentRepository.findByIdWithTaskAndUser(commentId);
         if (comment.isPresent() && canDeleteComment(comment.get(), currentUser)) {
+            recordChange(comment.get(), ChangeLogEntry.Operation.DELETED);
             commentRepository.deleteById(commentId);
+            boardUpdatePublisher.publishCommentDeleted(comment.get().getTask().getProject().getId(),
+                    comment.get().getTask().getId(), commentId, currentUser);
             return true;
         }
         return false;
@@ -100,6 +167,7 @@ public class CommentService {
     /**
      * Get comment by ID
      */
+    @Transactional(readOnly = true)
     public Optional<CommentDto> getCommentById(Long commentId, User currentUser) {
         Optional<Comment> comment = commentRepository.findByIdWithTaskAndUser(commentId);
         if (comment.isPresent() && canAccessTask(comment.get().getTask(), currentUser)) {
@@ -109,13 +177,53 @@ public class CommentService {
     }
 
     /**
-     * Get all comments by current user
+     * Get a page of comments by current user, newest first
+     * Throws IllegalArgumentException if the cursor is malformed
      */
-    public List<CommentDto> getCommentsByCurrentUser(User currentUser) {
-        List<Comment> comments = commentRepository.findByUserIdWithTaskDetails(currentUser.getId());
-        return comments.stream()
+    @Transactional(readOnly = true)
+    public CursorPage<CommentDto> getCommentsByCurrentUser(String cursor, Integer limit, User currentUser) {
+        int pageSize = pageSize(limit);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findPageByUserId(currentUser.getId(), Limit.of(pageSize + 1));
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            comments = commentRepository.findPageByUserIdBefore(currentUser.getId(), position.getCreatedAt(), position.getId(), Limit.of(pageSize + 1));
+        }
+        return toDtoPage(comments, pageSize);
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Trim the extra look-ahead row and derive the next cursor from the last kept row
+     */
+    private static <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, KeysetCursor> positionOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? positionOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    private CursorPage<CommentDto> toDtoPage(List<Comment> comments, int pageSize) {
+        CursorPage<Comment> page = toPage(comments, pageSize,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
+        List<CommentDto> items = page.getItems().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
+        return new CursorPage<>(items, page.getNextCursor(), page.isHasMore());
+    }
+
+    /**
+     * Record a comment change for the delta sync feed
+     */
+    private void recordChange(Comment comment, ChangeLogEntry.Operation operation) {
+        changeLogService.record(ChangeLogEntry.EntityType.COMMENT, comment.getId(), comment.getTask().getProject(), operation);
     }
 
     /**
@@ -158,4 +266,8 @@ public class CommentService {
         dto.setUpdatedAt(comment.getUpdatedAt());
         return dto;
     }
+
+    private UserDto convertToUserDto(User user) {
+        return new UserDto(user.getId(), user.getName(), user.getEmail(), user.getRole().name());
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,214 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pms.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Full exports of projects, tasks and time entries. Rows are read in keyset pages ordered by id, each page in
+ * its own short read-only transaction, and written to the response between pages, so memory use does not grow
+ * with the export and no connection is held while the client reads. A long export is therefore not one snapshot:
+ * rows changed mid-export show their state when their page was read.
+ * Non-admin users get the visibility rules of ProjectService.getAllProjects: own projects and public projects.
+ */
+@Service
+public class ExportService {
+
+    public enum Dataset {
+        PROJECTS("SELECT p.id, p.name, p.description, p.start_date, p.end_date, p.visibility, " +
+                 "p.creator_id, c.email AS creator_email, p.created_at, p.updated_at " +
+                 "FROM projects p LEFT JOIN users c ON c.id = p.creator_id", "p.id"),
+        TASKS("SELECT t.id, t.project_id, t.title, t.description, t.status, t.priority, t.due_date, " +
+              "t.assigned_to_id, a.email AS assigned_to_email, t.created_at, t.updated_at " +
+              "FROM tasks t JOIN projects p ON p.id = t.project_id LEFT JOIN users a ON a.id = t.assigned_to_id", "t.id"),
+        TIME_ENTRIES("SELECT te.id, te.task_id, t.project_id, te.user_id, u.email AS user_email, te.hours_spent, te.created_at " +
+                     "FROM time_entries te JOIN tasks t ON t.id = te.task_id JOIN projects p ON p.id = t.project_id " +
+                     "JOIN users u ON u.id = te.user_id", "te.id");
+
+        // The id column is selected first, so the last value of a page is the keyset cursor for the next one
+        private final String sql;
+        private final String idColumn;
+
+        Dataset(String sql, String idColumn) {
+            this.sql = sql;
+            this.idColumn = idColumn;
+        }
+
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+
+        public static Dataset parse(String value) {
+            try {
+                return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown export: " + value);
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int pageSize;
+
+    @Autowired
+    public ExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry, @Value("${pms.export.page-size:1000}") int pageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Stream a dataset to the output stream. Runs its own read-only transaction per page, so it can be
+     * called from a StreamingResponseBody on an async thread. CSV exports always start with the header,
+     * even when no rows are visible.
+     */
+    public void export(Dataset dataset, FileFormat format, User currentUser, OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        RowWriter rowWriter = format == FileFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        Counter rowCounter = meterRegistry.counter("pms.export.rows", "dataset", dataset.fileName(), "format", format.getExtension());
+
+        StringBuilder sql = new StringBuilder(dataset.sql).append(" WHERE ").append(dataset.idColumn).append(" > ?");
+        boolean restricted = currentUser.getRole() != User.Role.ADMIN;
+        if (restricted) {
+            sql.append(" AND (p.creator_id = ? OR p.visibility = 'PUBLIC')");
+        }
+        sql.append(" ORDER BY ").append(dataset.idColumn).append(" LIMIT ?");
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            long lastId = 0;
+            boolean first = true;
+            Page page;
+            do {
+                Object[] args = restricted
+                        ? new Object[]{lastId, currentUser.getId(), pageSize}
+                        : new Object[]{lastId, pageSize};
+                page = readOnlyTransaction.execute(status -> jdbcTemplate.query(sql.toString(), (ResultSetExtractor<Page>) this::readPage, args));
+                if (first) {
+                    rowWriter.begin(page.columns());
+                    first = false;
+                }
+                for (Object[] row : page.rows()) {
+                    rowWriter.write(row);
+                }
+                rowCounter.increment(page.rows().size());
+                if (!page.rows().isEmpty()) {
+                    lastId = ((Number) page.rows().get(page.rows().size() - 1)[0]).longValue();
+                }
+            } while (page.rows().size() == pageSize);
+            writer.flush();
+        } finally {
+            sample.stop(meterRegistry.timer("pms.export.duration", "dataset", dataset.fileName()));
+        }
+    }
+
+    private record Page(String[] columns, List<Object[]> rows) {}
+
+    private Page readPage(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        String[] columns = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1);
+        }
+        List<Object[]> rows = new ArrayList<>(pageSize);
+        while (rs.next()) {
+            Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = columnValue(rs, i + 1);
+            }
+            rows.add(values);
+        }
+        return new Page(columns, rows);
+    }
+
+    private interface RowWriter {
+        void begin(String[] columns) throws IOException;
+
+        void write(Object[] values) throws IOException;
+    }
+
+    private static Object columnValue(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final CsvWriter csv;
+
+        private CsvRowWriter(Writer writer) {
+            this.csv = new CsvWriter(writer);
+        }
+
+        @Override
+        public void begin(String[] columns) throws IOException {
+            csv.writeRow((Object[]) columns);
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            csv.writeRow(values);
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private String[] columns;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin(String[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                row.put(columns[i], values[i]);
+            }
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+}
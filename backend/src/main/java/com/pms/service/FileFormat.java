@@ -0,0 +1,37 @@
+package com.pms.service;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented file formats supported by bulk import and export.
+ */
+public enum FileFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    FileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static FileFormat parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown file format: " + value);
+        }
+    }
+
+    /**
+     * Guess the format from a file name: .ndjson and .jsonl are NDJSON, anything else CSV
+     */
+    public static FileFormat fromFileName(String fileName) {
+        String lower = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
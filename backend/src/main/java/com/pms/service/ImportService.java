@@ -0,0 +1,654 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pms.cache.CacheInvalidationBus;
+import com.pms.cache.CacheInvalidationEvent;
+import com.pms.dto.ImportResultDto;
+import com.pms.dto.ImportRowErrorDto;
+import com.pms.entity.Project;
+import com.pms.entity.Task;
+import com.pms.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of projects and tasks from CSV (with header) or NDJSON files.
+ * The file is parsed row by row; valid rows are collected into chunks and each chunk is resolved
+ * (projects, assignees by email) with one query per lookup and written with JDBC batches in its own
+ * transaction, so a failing chunk does not undo earlier ones. Access rules match ProjectService and
+ * TaskService: tasks go only into projects the user can modify, assigned to themselves or a project member.
+ * Imported tasks do not send assignment notifications.
+ */
+@Service
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_CHUNK_SIZE = 5000;
+
+    public enum Dataset {
+        PROJECTS, TASKS;
+
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Dataset parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown import: " + value);
+            }
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public ImportService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper, CacheInvalidationBus cacheInvalidationBus, MeterRegistry meterRegistry,
+                         @Value("${pms.import.chunk-size:500}") int chunkSize,
+                         @Value("${pms.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Import every row of the file. Invalid rows are reported and skipped; the rest are imported.
+     */
+    public ImportResultDto importFile(Dataset dataset, FileFormat format, InputStream inputStream, User currentUser) throws IOException {
+        long started = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        skipByteOrderMark(reader);
+        RowSource source = format == FileFormat.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader);
+        ImportRun<?> run = dataset == Dataset.PROJECTS
+                ? new ImportRun<>(new ProjectImporter(currentUser))
+                : new ImportRun<>(new TaskImporter(currentUser));
+
+        while (true) {
+            SourceRow row;
+            try {
+                row = source.next();
+            } catch (InvalidRowException e) {
+                run.rowsRead++;
+                run.fail(e.line, e.getMessage());
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+            run.rowsRead++;
+            run.add(row);
+        }
+        run.flush();
+
+        long durationNanos = System.nanoTime() - started;
+        meterRegistry.counter("pms.import.rows", "dataset", dataset.fileName(), "result", "imported").increment(run.imported);
+        meterRegistry.counter("pms.import.rows", "dataset", dataset.fileName(), "result", "failed").increment(run.failed);
+        meterRegistry.timer("pms.import.duration", "dataset", dataset.fileName()).record(durationNanos, TimeUnit.NANOSECONDS);
+
+        run.errors.sort(Comparator.comparingLong(ImportRowErrorDto::getLine));
+        double seconds = durationNanos / 1_000_000_000.0;
+        double rowsPerSecond = seconds > 0 ? Math.round(run.rowsRead / seconds * 10) / 10.0 : 0;
+        return new ImportResultDto(dataset.fileName(), run.rowsRead, run.imported, run.failed, run.errors,
+                run.failed > run.errors.size(), durationNanos / 1_000_000, rowsPerSecond);
+    }
+
+    /**
+     * Counts, errors and the pending chunk of one import
+     */
+    private final class ImportRun<R extends ImportRow> {
+        private final RowImporter<R> importer;
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+        private List<R> pending = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long failed;
+
+        private ImportRun(RowImporter<R> importer) {
+            this.importer = importer;
+        }
+
+        private void add(SourceRow row) {
+            R parsed;
+            try {
+                parsed = importer.parse(row);
+            } catch (InvalidRowException e) {
+                fail(row.line(), e.getMessage());
+                return;
+            }
+            pending.add(parsed);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<R> chunk = pending;
+            pending = new ArrayList<>();
+            boolean committed;
+            try {
+                chunkTransaction.executeWithoutResult(status -> importer.insert(importer.resolve(chunk)));
+                committed = true;
+            } catch (DataAccessException e) {
+                log.warn("Import chunk of {} rows starting at line {} rolled back", chunk.size(), chunk.get(0).line, e);
+                committed = false;
+            }
+            for (R row : chunk) {
+                if (row.error != null) {
+                    fail(row.line, row.error);
+                } else if (committed) {
+                    imported++;
+                } else {
+                    fail(row.line, "Not imported: the database rejected this chunk");
+                }
+            }
+        }
+
+        private void fail(long line, String error) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowErrorDto(line, error));
+            }
+        }
+    }
+
+    /**
+     * Parses rows of one dataset and writes resolved chunks
+     */
+    private interface RowImporter<R extends ImportRow> {
+        R parse(SourceRow row);
+
+        /**
+         * Look up references for the chunk, set an error on rows that cannot be imported and return the rest
+         */
+        List<R> resolve(List<R> chunk);
+
+        void insert(List<R> rows);
+    }
+
+    private abstract static class ImportRow {
+        final long line;
+        String error;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+    }
+
+    private static final class ProjectRow extends ImportRow {
+        private String name;
+        private String description;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Project.Visibility visibility;
+
+        private ProjectRow(long line) {
+            super(line);
+        }
+    }
+
+    private final class ProjectImporter implements RowImporter<ProjectRow> {
+        private final User currentUser;
+
+        private ProjectImporter(User currentUser) {
+            this.currentUser = currentUser;
+        }
+
+        @Override
+        public ProjectRow parse(SourceRow row) {
+            ProjectRow project = new ProjectRow(row.line());
+            project.name = requiredText(row, "name", "Project name");
+            project.description = row.get("description");
+            project.startDate = date(row, "start_date");
+            project.endDate = date(row, "end_date");
+            if (project.startDate != null && project.endDate != null && project.endDate.isBefore(project.startDate)) {
+                throw new InvalidRowException(row.line(), "end_date is before start_date");
+            }
+            project.visibility = enumValue(row, "visibility", Project.Visibility.class, Project.Visibility.PRIVATE);
+            return project;
+        }
+
+        @Override
+        public List<ProjectRow> resolve(List<ProjectRow> chunk) {
+            return chunk;
+        }
+
+        @Override
+        public void insert(List<ProjectRow> rows) {
+            // One statement per chunk: insert the projects, their OWNER memberships and change log entries together
+            StringBuilder sql = new StringBuilder("WITH inserted AS (INSERT INTO projects ")
+                    .append("(name, description, start_date, end_date, visibility, creator_id) VALUES ");
+            List<Object> args = new ArrayList<>(rows.size() * 6 + 1);
+            for (int i = 0; i < rows.size(); i++) {
+                ProjectRow row = rows.get(i);
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?)");
+                args.add(row.name);
+                args.add(row.description);
+                args.add(row.startDate);
+                args.add(row.endDate);
+                args.add(row.visibility.name());
+                args.add(currentUser.getId());
+            }
+            sql.append(" RETURNING id, visibility), members AS (INSERT INTO project_members (project_id, user_id, role) ")
+               .append("SELECT id, ?, 'OWNER' FROM inserted), ")
+               .append("logged AS (INSERT INTO change_log (entity_type, entity_id, project_id, operation, project_creator_id, project_public) ")
+               .append("SELECT 'PROJECT', id, id, 'CREATED', ?, visibility = 'PUBLIC' FROM inserted) ")
+               .append("SELECT id FROM inserted");
+            args.add(currentUser.getId());
+            args.add(currentUser.getId());
+
+            List<Long> projectIds = jdbcTemplate.getJdbcTemplate().queryForList(sql.toString(), Long.class, args.toArray());
+            for (Long projectId : projectIds) {
+                cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT, projectId);
+            }
+        }
+    }
+
+    private static final class TaskRow extends ImportRow {
+        private String title;
+        private String description;
+        private Task.Priority priority;
+        private Task.Status status;
+        private LocalDate dueDate;
+        private Long projectId;
+        private String projectName;
+        private String assigneeEmail;
+        private Long assigneeId;
+
+        private TaskRow(long line) {
+            super(line);
+        }
+    }
+
+    private final class TaskImporter implements RowImporter<TaskRow> {
+        private final User currentUser;
+        private final boolean admin;
+
+        private TaskImporter(User currentUser) {
+            this.currentUser = currentUser;
+            this.admin = currentUser.getRole() == User.Role.ADMIN;
+        }
+
+        @Override
+        public TaskRow parse(SourceRow row) {
+            TaskRow task = new TaskRow(row.line());
+            task.title = requiredText(row, "title", "Task title");
+            task.description = row.get("description");
+            task.priority = enumValue(row, "priority", Task.Priority.class, Task.Priority.MEDIUM);
+            task.status = enumValue(row, "status", Task.Status.class, Task.Status.TODO);
+            task.dueDate = date(row, "due_date");
+            String projectId = row.get("project_id");
+            if (projectId != null) {
+                try {
+                    task.projectId = Long.valueOf(projectId.trim());
+                } catch (NumberFormatException e) {
+                    throw new InvalidRowException(row.line(), "project_id is not a number: " + projectId);
+                }
+            } else {
+                task.projectName = row.get("project_name");
+                if (task.projectName == null) {
+                    throw new InvalidRowException(row.line(), "project_id or project_name is required");
+                }
+                task.projectName = task.projectName.trim();
+            }
+            String assigneeEmail = row.get("assignee_email");
+            task.assigneeEmail = assigneeEmail != null ? assigneeEmail.trim() : null;
+            return task;
+        }
+
+        @Override
+        public List<TaskRow> resolve(List<TaskRow> chunk) {
+            Set<Long> projectIds = new HashSet<>();
+            Set<String> projectNames = new HashSet<>();
+            Set<String> emails = new HashSet<>();
+            for (TaskRow row : chunk) {
+                if (row.projectId != null) {
+                    projectIds.add(row.projectId);
+                } else {
+                    projectNames.add(row.projectName);
+                }
+                if (row.assigneeEmail != null) {
+                    emails.add(row.assigneeEmail);
+                }
+            }
+
+            // Only projects the user can modify (creator or admin) are visible to the lookups
+            String scope = admin ? "" : " AND creator_id = :userId";
+            MapSqlParameterSource params = new MapSqlParameterSource("userId", currentUser.getId());
+            Set<Long> modifiableIds = projectIds.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM projects WHERE id IN (:ids)" + scope,
+                    params.addValue("ids", projectIds), Long.class));
+            Map<String, List<Long>> idsByName = new HashMap<>();
+            if (!projectNames.isEmpty()) {
+                jdbcTemplate.query("SELECT id, name FROM projects WHERE name IN (:names)" + scope,
+                        params.addValue("names", projectNames),
+                        rs -> { idsByName.computeIfAbsent(rs.getString("name"), name -> new ArrayList<>()).add(rs.getLong("id")); });
+            }
+            Map<String, Long> userIdsByEmail = new HashMap<>();
+            if (!emails.isEmpty()) {
+                jdbcTemplate.query("SELECT id, email FROM users WHERE email IN (:emails)",
+                        new MapSqlParameterSource("emails", emails),
+                        rs -> { userIdsByEmail.put(rs.getString("email"), rs.getLong("id")); });
+            }
+
+            List<TaskRow> resolved = new ArrayList<>();
+            for (TaskRow row : chunk) {
+                if (row.projectId != null) {
+                    if (!modifiableIds.contains(row.projectId)) {
+                        row.error = "Project not found or access denied: " + row.projectId;
+                        continue;
+                    }
+                } else {
+                    List<Long> matches = idsByName.getOrDefault(row.projectName, List.of());
+                    if (matches.isEmpty()) {
+                        row.error = "Project not found or access denied: " + row.projectName;
+                        continue;
+                    }
+                    if (matches.size() > 1) {
+                        row.error = "Project name matches " + matches.size() + " projects; use project_id";
+                        continue;
+                    }
+                    row.projectId = matches.get(0);
+                }
+                if (row.assigneeEmail == null) {
+                    row.assigneeId = currentUser.getId();
+                } else {
+                    row.assigneeId = userIdsByEmail.get(row.assigneeEmail);
+                    if (row.assigneeId == null) {
+                        row.error = "Assignee not found: " + row.assigneeEmail;
+                        continue;
+                    }
+                }
+                resolved.add(row);
+            }
+            return admin ? resolved : withMemberAssignees(resolved);
+        }
+
+        /**
+         * Non-admins may only assign tasks to themselves or to members of the task's project
+         */
+        private List<TaskRow> withMemberAssignees(List<TaskRow> rows) {
+            Set<Long> projectIds = new HashSet<>();
+            Set<Long> userIds = new HashSet<>();
+            for (TaskRow row : rows) {
+                if (!row.assigneeId.equals(currentUser.getId())) {
+                    projectIds.add(row.projectId);
+                    userIds.add(row.assigneeId);
+                }
+            }
+            if (userIds.isEmpty()) {
+                return rows;
+            }
+            Set<List<Long>> memberships = new HashSet<>();
+            jdbcTemplate.query("SELECT project_id, user_id FROM project_members WHERE project_id IN (:projectIds) AND user_id IN (:userIds)",
+                    new MapSqlParameterSource("projectIds", projectIds).addValue("userIds", userIds),
+                    rs -> { memberships.add(List.of(rs.getLong("project_id"), rs.getLong("user_id"))); });
+
+            List<TaskRow> allowed = new ArrayList<>();
+            for (TaskRow row : rows) {
+                if (row.assigneeId.equals(currentUser.getId()) || memberships.contains(List.of(row.projectId, row.assigneeId))) {
+                    allowed.add(row);
+                } else {
+                    row.error = "Assignee is not a member of the project: " + row.assigneeEmail;
+                }
+            }
+            return allowed;
+        }
+
+        @Override
+        public void insert(List<TaskRow> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            Iterator<String> ranks = ranksAtEnd(rows).iterator();
+            List<Object[]> batch = new ArrayList<>(rows.size());
+            for (TaskRow row : rows) {
+                batch.add(new Object[]{row.projectId, row.title, row.description, row.priority.name(),
+                        row.status.name(), row.dueDate, row.assigneeId, ranks.next()});
+            }
+            jdbcTemplate.getJdbcTemplate().batchUpdate(
+                    "INSERT INTO tasks (project_id, title, description, priority, status, due_date, assigned_to_id, board_rank) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+            // The rows written by this chunk's transaction are exactly the tasks just inserted
+            jdbcTemplate.update(
+                    "INSERT INTO change_log (entity_type, entity_id, project_id, operation, project_creator_id, project_public) " +
+                    "SELECT 'TASK', t.id, t.project_id, 'CREATED', p.creator_id, p.visibility = 'PUBLIC' " +
+                    "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                    "WHERE t.project_id IN (:projectIds) AND t.change_xid = pg_current_xact_id()",
+                    new MapSqlParameterSource("projectIds",
+                            rows.stream().map(row -> row.projectId).distinct().collect(Collectors.toList())));
+        }
+
+        /**
+         * Board ranks for the rows, in row order: each board column gets its imported tasks appended after
+         * its current last task, split evenly so the ranks stay short
+         */
+        private List<String> ranksAtEnd(List<TaskRow> rows) {
+            Map<List<Object>, String> lastRanks = new HashMap<>();
+            jdbcTemplate.query("SELECT project_id, status, MAX(board_rank) AS last_rank FROM tasks " +
+                            "WHERE project_id IN (:projectIds) GROUP BY project_id, status",
+                    new MapSqlParameterSource("projectIds", rows.stream().map(row -> row.projectId).distinct().collect(Collectors.toList())),
+                    rs -> { lastRanks.put(List.of(rs.getLong("project_id"), rs.getString("status")), rs.getString("last_rank")); });
+
+            Map<List<Object>, Integer> counts = new HashMap<>();
+            for (TaskRow row : rows) {
+                counts.merge(List.of(row.projectId, row.status.name()), 1, Integer::sum);
+            }
+            Map<List<Object>, Iterator<String>> columnRanks = new HashMap<>();
+            counts.forEach((column, count) ->
+                    columnRanks.put(column, TaskRanks.between(lastRanks.get(column), null, count).iterator()));
+
+            List<String> ranks = new ArrayList<>(rows.size());
+            for (TaskRow row : rows) {
+                ranks.add(columnRanks.get(List.of(row.projectId, row.status.name())).next());
+            }
+            return ranks;
+        }
+    }
+
+    private static String requiredText(SourceRow row, String column, String label) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            throw new InvalidRowException(row.line(), label + " is required");
+        }
+        value = value.trim();
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new InvalidRowException(row.line(), label + " must be less than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static LocalDate date(SourceRow row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidRowException(row.line(), column + " is not an ISO date (yyyy-mm-dd): " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(SourceRow row, String column, Class<E> type, E defaultValue) {
+        String value = row.get(column);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRowException(row.line(), "Invalid " + column + ": " + value);
+        }
+    }
+
+    /**
+     * One data row: values keyed by normalized column name (lower case, no underscores), blanks as null
+     */
+    private record SourceRow(long line, Map<String, String> values) {
+        private String get(String column) {
+            return values.get(normalize(column));
+        }
+    }
+
+    /**
+     * Skip a leading UTF-8 byte order mark, as written by Excel's "CSV UTF-8". The decoder keeps it as U+FEFF,
+     * which would otherwise become part of the first column name or break the first JSON line
+     */
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private static String normalize(String column) {
+        return column.trim().toLowerCase(Locale.ROOT).replace("_", "");
+    }
+
+    private interface RowSource {
+        /**
+         * Next data row, or null at end of file. Throws InvalidRowException for a malformed row.
+         */
+        SourceRow next() throws IOException;
+    }
+
+    private static final class CsvRowSource implements RowSource {
+        private final CsvReader csv;
+        private List<String> header;
+
+        private CsvRowSource(BufferedReader reader) {
+            this.csv = new CsvReader(reader);
+        }
+
+        @Override
+        public SourceRow next() throws IOException {
+            long line = csv.getLineNumber();
+            List<String> record;
+            try {
+                if (header == null) {
+                    List<String> headerRecord = csv.readRecord();
+                    if (headerRecord == null) {
+                        return null;
+                    }
+                    header = headerRecord.stream().map(ImportService::normalize).toList();
+                }
+                do {
+                    line = csv.getLineNumber();
+                    record = csv.readRecord();
+                    if (record == null) {
+                        return null;
+                    }
+                } while (record.size() == 1 && record.get(0).isBlank());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRowException(line, e.getMessage());
+            }
+            if (record.size() != header.size()) {
+                throw new InvalidRowException(line, "Expected " + header.size() + " fields, found " + record.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = record.get(i);
+                values.put(header.get(i), value.isBlank() ? null : value);
+            }
+            return new SourceRow(line, values);
+        }
+    }
+
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public SourceRow next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                throw new InvalidRowException(line, "Malformed JSON");
+            }
+            if (!node.isObject()) {
+                throw new InvalidRowException(line, "Expected a JSON object");
+            }
+            Map<String, String> values = new HashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (value.isContainerNode()) {
+                    throw new InvalidRowException(line, field.getKey() + " must be a string, number or boolean");
+                }
+                String scalar = value.isNull() ? null : value.asText();
+                values.put(normalize(field.getKey()), scalar == null || scalar.isBlank() ? null : scalar);
+            }
+            return new SourceRow(line, values);
+        }
+    }
+
+    private static final class InvalidRowException extends RuntimeException {
+        private final long line;
+
+        private InvalidRowException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+    }
+}
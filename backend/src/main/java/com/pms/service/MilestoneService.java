@@ -1,36 +1,55 @@
 package com.pms.service;
 
 import com.pms.dto.MilestoneDto;
+import com.pms.dto.MilestoneProgressDto;
+import com.pms.entity.ChangeLogEntry;
 import com.pms.entity.Milestone;
 import com.pms.entity.Project;
 import com.pms.entity.User;
+import com.pms.event.DomainEventBus;
+import com.pms.event.MilestoneToggledEvent;
 import com.pms.repository.MilestoneRepository;
 import com.pms.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class MilestoneService {
 
+    public static final int MAX_PROGRESS_PROJECTS = 500;
+
     private final MilestoneRepository milestoneRepository;
     private final ProjectRepository projectRepository;
+    private final ChangeLogService changeLogService;
+    private final DomainEventBus domainEventBus;
 
     @Autowired
-    public MilestoneService(MilestoneRepository milestoneRepository, ProjectRepository projectRepository) {
+    public MilestoneService(MilestoneRepository milestoneRepository, ProjectRepository projectRepository,
+                            ChangeLogService changeLogService, DomainEventBus domainEventBus) {
         this.milestoneRepository = milestoneRepository;
         this.projectRepository = projectRepository;
+        this.changeLogService = changeLogService;
+        this.domainEventBus = domainEventBus;
     }
 
     /**
      * Get all milestones for a project with access control
      */
+    @Transactional(readOnly = true)
     public List<MilestoneDto> getMilestonesByProjectId(Long projectId, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -45,6 +64,7 @@ public class MilestoneService {
     /**
      * Get milestone by ID with access control
      */
+    @Transactional(readOnly = true)
     public Optional<MilestoneDto> getMilestoneById(Long id, User currentUser) {
         Optional<Milestone> milestone = milestoneRepository.findByIdWithProject(id);
         if (milestone.isPresent() && canAccessProject(milestone.get().getProject(), currentUser)) {
@@ -53,6 +73,15 @@ public class MilestoneService {
         return Optional.empty();
     }
 
+    /**
+     * Get milestone by ID from the primary in a read-write transaction, so it reflects the latest committed
+     * version (for 409 responses). The self-call runs in this transaction, not a read-only one
+     */
+    @Transactional
+    public Optional<MilestoneDto> getLatestMilestoneById(Long id, User currentUser) {
+        return getMilestoneById(id, currentUser);
+    }
+
     /**
      * Create a new milestone
      */
@@ -63,24 +92,29 @@ public class MilestoneService {
             milestone.setProject(project.get());
             
             Milestone savedMilestone = milestoneRepository.save(milestone);
+            recordChange(savedMilestone, ChangeLogEntry.Operation.CREATED);
             return Optional.of(convertToDto(savedMilestone));
         }
         return Optional.empty();
     }
 
     /**
-     * Update an existing milestone
+     * Update an existing milestone. Throws ObjectOptimisticLockingFailureException if
+     * expectedVersion is given and the milestone has moved on, or if it is changed concurrently
      */
-    public Optional<MilestoneDto> updateMilestone(Long id, MilestoneDto milestoneDto, User currentUser) {
+    public Optional<MilestoneDto> updateMilestone(Long id, MilestoneDto milestoneDto, Long expectedVersion, User currentUser) {
         Optional<Milestone> existingMilestone = milestoneRepository.findById(id);
         if (existingMilestone.isPresent() && canModifyProject(existingMilestone.get().getProject(), currentUser)) {
             Milestone milestone = existingMilestone.get();
+            checkVersion(milestone, expectedVersion);
             milestone.setTitle(milestoneDto.getTitle());
             milestone.setDescription(milestoneDto.getDescription());
             milestone.setTargetDate(milestoneDto.getTargetDate());
             milestone.setCompleted(milestoneDto.isCompleted());
             
-            Milestone savedMilestone = milestoneRepository.save(milestone);
+            // Flush so a concurrent update fails here and the returned version is the new one
+            Milestone savedMilestone = milestoneRepository.saveAndFlush(milestone);
+            recordChange(savedMilestone, ChangeLogEntry.Operation.UPDATED);
             return Optional.of(convertToDto(savedMilestone));
         }
         return Optional.empty();
@@ -92,6 +126,7 @@ public class MilestoneService {
     public boolean deleteMilestone(Long id, User currentUser) {
         Optional<Milestone> milestone = milestoneRepository.findById(id);
         if (milestone.isPresent() && canModifyProject(milestone.get().getProject(), currentUser)) {
+            recordChange(milestone.get(), ChangeLogEntry.Operation.DELETED);
             milestoneRepository.deleteById(id);
             return true;
         }
@@ -99,15 +134,20 @@ public class MilestoneService {
     }
 
     /**
-     * Toggle milestone completion status
+     * Toggle milestone completion status. Throws ObjectOptimisticLockingFailureException if
+     * expectedVersion is given and the milestone has moved on, or if it is changed concurrently
      */
-    public Optional<MilestoneDto> toggleMilestoneCompletion(Long id, User currentUser) {
+    public Optional<MilestoneDto> toggleMilestoneCompletion(Long id, Long expectedVersion, User currentUser) {
         Optional<Milestone> milestone = milestoneRepository.findById(id);
         if (milestone.isPresent() && canModifyProject(milestone.get().getProject(), currentUser)) {
             Milestone milestoneEntity = milestone.get();
+            checkVersion(milestoneEntity, expectedVersion);
             milestoneEntity.setCompleted(!milestoneEntity.isCompleted());
             
-            Milestone savedMilestone = milestoneRepository.save(milestoneEntity);
+            Milestone savedMilestone = milestoneRepository.saveAndFlush(milestoneEntity);
+            recordChange(savedMilestone, ChangeLogEntry.Operation.UPDATED);
+            domainEventBus.publish(new MilestoneToggledEvent(savedMilestone.getId(), savedMilestone.getProject().getId(),
+                    currentUser.getId(), savedMilestone.isCompleted()));
             return Optional.of(convertToDto(savedMilestone));
         }
         return Optional.empty();
@@ -116,6 +156,7 @@ public class MilestoneService {
     /**
      * Get overdue milestones for a project
      */
+    @Transactional(readOnly = true)
     public List<MilestoneDto> getOverdueMilestones(Long projectId, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -130,6 +171,7 @@ public class MilestoneService {
     /**
      * Get upcoming milestones for a project (next 30 days)
      */
+    @Transactional(readOnly = true)
     public List<MilestoneDto> getUpcomingMilestones(Long projectId, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -146,18 +188,56 @@ public class MilestoneService {
     /**
      * Get milestone progress for a project
      */
+    @Transactional(readOnly = true)
     public double getMilestoneProgress(Long projectId, User currentUser) {
-        Optional<Project> project = projectRepository.findById(projectId);
-        if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
-            long totalMilestones = milestoneRepository.countByProjectId(projectId);
-            if (totalMilestones == 0) {
-                return 0.0;
+        MilestoneProgressDto progress = getMilestoneProgress(List.of(projectId), currentUser).get(projectId);
+        return progress != null ? progress.getProgress() : 0.0;
+    }
+
+    /**
+     * Get milestone progress for many projects with one aggregate query, keyed by project ID.
+     * Projects that do not exist or are not accessible are left out.
+     * Throws IllegalArgumentException if more than MAX_PROGRESS_PROJECTS IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, MilestoneProgressDto> getMilestoneProgress(Collection<Long> projectIds, User currentUser) {
+        Set<Long> ids = new LinkedHashSet<>(projectIds);
+        if (ids.size() > MAX_PROGRESS_PROJECTS) {
+            throw new IllegalArgumentException("At most " + MAX_PROGRESS_PROJECTS + " projects per request");
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<MilestoneProgressDto> rows = currentUser.getRole() == User.Role.ADMIN
+                ? milestoneRepository.findProgressByProjectIds(ids)
+                : milestoneRepository.findAccessibleProgressByProjectIds(ids, currentUser, Project.Visibility.PUBLIC);
+
+        Map<Long, MilestoneProgressDto> byProjectId = rows.stream()
+                .collect(Collectors.toMap(MilestoneProgressDto::getProjectId, Function.identity()));
+        Map<Long, MilestoneProgressDto> progress = new LinkedHashMap<>();
+        for (Long id : ids) {
+            MilestoneProgressDto row = byProjectId.get(id);
+            if (row != null) {
+                progress.put(id, row);
             }
-            
-            long completedMilestones = milestoneRepository.countByProjectIdAndCompletedTrue(projectId);
-            return (double) completedMilestones / totalMilestones * 100;
         }
-        return 0.0;
+        return progress;
+    }
+
+    /**
+     * Reject an update made against an older version of the milestone
+     */
+    private void checkVersion(Milestone milestone, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(milestone.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Milestone.class, milestone.getId());
+        }
+    }
+
+    /**
+     * Record a milestone change for the delta sync feed
+     */
+    private void recordChange(Milestone milestone, ChangeLogEntry.Operation operation) {
+        changeLogService.record(ChangeLogEntry.EntityType.MILESTONE, milestone.getId(), milestone.getProject(), operation);
     }
 
     /**
@@ -191,6 +271,7 @@ public class MilestoneService {
         dto.setProjectId(milestone.getProject().getId());
         dto.setCreatedAt(milestone.getCreatedAt());
         dto.setUpdatedAt(milestone.getUpdatedAt());
+        dto.setVersion(milestone.getVersion());
         return dto;
     }
 
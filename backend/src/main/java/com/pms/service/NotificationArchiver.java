@@ -0,0 +1,78 @@
+package com.pms.service;
+
+import com.pms.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Nightly notification maintenance: pre-creates upcoming monthly partitions, moves read notifications
+ * past the read retention (and all notifications past the history window) into notifications_archive
+ * in batches of one transaction each, then drops monthly partitions left empty.
+ */
+@Component
+@ConditionalOnProperty(name = "pms.notifications.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationArchiver.class);
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+
+    @Value("${pms.notifications.history:90d}")
+    private Duration history;
+
+    @Value("${pms.notifications.archive.read-after:30d}")
+    private Duration readRetention;
+
+    @Value("${pms.notifications.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${pms.notifications.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Autowired
+    public NotificationArchiver(NotificationRepository notificationRepository, PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedCounter = Counter.builder("pms.notifications.archived")
+                .description("Notifications moved to notifications_archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${pms.notifications.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        long start = System.currentTimeMillis();
+        Integer created = transactionTemplate.execute(status -> notificationRepository.ensurePartitions(LocalDate.now(), monthsAhead));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime allBefore = now.minus(history);
+        // Read notifications never outlive unread ones
+        LocalDateTime readBefore = now.minus(readRetention.compareTo(history) < 0 ? readRetention : history);
+        long archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> notificationRepository.archiveBatch(readBefore, allBefore, batchSize));
+            archived += moved;
+            archivedCounter.increment(moved);
+        } while (moved == batchSize);
+
+        Integer dropped = transactionTemplate.execute(status -> notificationRepository.dropEmptyPartitionsBefore(readBefore));
+        log.info("Archived {} notifications, created {} and dropped {} partitions in {} ms",
+                archived, created, dropped, System.currentTimeMillis() - start);
+    }
+}
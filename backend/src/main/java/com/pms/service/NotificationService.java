@@ -1,62 +1,112 @@
 package com.pms.service;
 
+import com.pms.dto.CursorPage;
 import com.pms.dto.NotificationDto;
+import com.pms.dto.NotificationReadRequest;
 import com.pms.entity.Notification;
 import com.pms.entity.User;
 import com.pms.repository.NotificationRepository;
 import com.pms.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class NotificationService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final Duration history;
+    private final Duration coalesceWindow;
+    private final int maxReadIds;
+    private final Counter createdCounter;
+    private final Counter coalescedCounter;
 
     @Autowired
-    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository) {
+    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${pms.notifications.history:90d}") Duration history,
+                               @Value("${pms.notifications.coalesce-window:1h}") Duration coalesceWindow,
+                               @Value("${pms.notifications.read.max-ids:100}") int maxReadIds) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
+        this.history = history;
+        this.coalesceWindow = coalesceWindow;
+        this.maxReadIds = maxReadIds;
+        this.createdCounter = writtenCounter(meterRegistry, "created");
+        this.coalescedCounter = writtenCounter(meterRegistry, "coalesced");
     }
 
     /**
      * Create a new notification for a user
      */
     public NotificationDto createNotification(Long userId, String message) {
+        return createNotification(userId, message, Notification.Type.GENERAL, null);
+    }
+
+    /**
+     * Create a new notification of a type, optionally about a task
+     */
+    public NotificationDto createNotification(Long userId, String message, Notification.Type type, Long taskId) {
         Optional<User> user = userRepository.findById(userId);
         if (user.isPresent()) {
-            Notification notification = new Notification(user.get(), message);
+            Notification notification = new Notification(user.get(), message, type, taskId);
             Notification savedNotification = notificationRepository.save(notification);
+            createdCounter.increment();
             return convertToDto(savedNotification);
         }
         return null;
     }
 
     /**
-     * Get all notifications for current user
+     * Get a page of the current user's notifications, newest first, optionally only of one type and/or
+     * only read or unread ones. Only notifications within the history window are listed; older ones are archived.
+     * Throws IllegalArgumentException for a malformed cursor
      */
-    public List<NotificationDto> getNotificationsByCurrentUser(User currentUser) {
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(currentUser.getId());
-        return notifications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationDto> getNotificationsByCurrentUser(String cursor, Integer limit, NotificationDto.Type type,
+                                                                     Boolean read, User currentUser) {
+        int pageSize = pageSize(limit);
+        LocalDateTime since = historyStart();
+        Notification.Type typeFilter = type != null ? Notification.Type.valueOf(type.name()) : null;
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        List<NotificationDto> notifications;
+        if (read == null) {
+            notifications = position == null
+                    ? notificationRepository.findPageByUserId(currentUser.getId(), since, typeFilter, Limit.of(pageSize + 1))
+                    : notificationRepository.findPageByUserIdBefore(currentUser.getId(), since, typeFilter,
+                            position.getCreatedAt(), position.getId(), Limit.of(pageSize + 1));
+        } else {
+            notifications = position == null
+                    ? notificationRepository.findPageByUserIdAndRead(currentUser.getId(), read, since, typeFilter,
+                            Limit.of(pageSize + 1))
+                    : notificationRepository.findPageByUserIdAndReadBefore(currentUser.getId(), read, since, typeFilter,
+                            position.getCreatedAt(), position.getId(), Limit.of(pageSize + 1));
+        }
+        return toPage(notifications, pageSize, currentUser);
     }
 
     /**
-     * Get unread notifications for current user
+     * Get a page of the current user's unread notifications within the history window, newest first.
+     * Throws IllegalArgumentException for a malformed cursor
      */
-    public List<NotificationDto> getUnreadNotificationsByCurrentUser(User currentUser) {
-        List<Notification> notifications = notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(currentUser.getId());
-        return notifications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationDto> getUnreadNotificationsByCurrentUser(String cursor, Integer limit, NotificationDto.Type type,
+                                                                           User currentUser) {
+        return getNotificationsByCurrentUser(cursor, limit, type, false, currentUser);
     }
 
     /**
@@ -83,29 +133,100 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Mark many notifications of the current user as read with a single UPDATE, either by ID or everything
+     * created up to a timestamp. Returns how many notifications changed from unread to read.
+     * Throws IllegalArgumentException unless exactly one of ids and upTo is given, or if there are too many ids
+     */
+    public int markNotificationsAsRead(NotificationReadRequest request, User currentUser) {
+        List<Long> ids = request.getIds();
+        boolean byIds = ids != null && !ids.isEmpty();
+        if (byIds == (request.getUpTo() != null)) {
+            throw new IllegalArgumentException("Either ids or upTo is required");
+        }
+        if (byIds) {
+            if (ids.size() > maxReadIds) {
+                throw new IllegalArgumentException("At most " + maxReadIds + " ids can be marked as read at once");
+            }
+            return notificationRepository.markAsReadByIdsAndUserId(ids, currentUser.getId(), historyStart());
+        }
+        return notificationRepository.markAsReadUpToByUserId(currentUser.getId(), historyStart(), request.getUpTo());
+    }
+
     /**
      * Get unread notification count for current user
      */
+    @Transactional(readOnly = true)
     public long getUnreadNotificationCount(User currentUser) {
-        return notificationRepository.countByUserIdAndReadFalse(currentUser.getId());
+        return notificationRepository.countByUserIdAndReadFalseAndCreatedAtGreaterThanEqual(currentUser.getId(), historyStart());
     }
 
     /**
      * Create notification for task assignment
      */
-    public void notifyTaskAssignment(User assignee, String taskTitle, String projectName) {
+    public void notifyTaskAssignment(Long assigneeId, Long taskId, String taskTitle, String projectName) {
         String message = String.format("You have been assigned to task '%s' in project '%s'", taskTitle, projectName);
-        createNotification(assignee.getId(), message);
+        createNotification(assigneeId, message, Notification.Type.TASK_ASSIGNED, taskId);
+    }
+
+    /**
+     * Create notification for new comment. Comments on the same task are merged into the assignee's
+     * unread comment notification from within the coalesce window, which counts them instead of
+     * adding a row per comment.
+     */
+    public void notifyNewComment(Long taskAssigneeId, Long taskId, String commenterName, String taskTitle) {
+        if (taskAssigneeId == null) {
+            return;
+        }
+        if (taskId != null && !coalesceWindow.isZero()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Notification> open = notificationRepository.findCoalescible(taskAssigneeId, taskId,
+                    Notification.Type.COMMENT_ADDED, now.minus(coalesceWindow), Limit.of(1));
+            if (!open.isEmpty()) {
+                Notification notification = open.get(0);
+                notification.setEventCount(notification.getEventCount() + 1);
+                notification.setLastEventAt(now);
+                notification.setMessage(String.format("%d new comments on task '%s', latest from %s",
+                        notification.getEventCount(), taskTitle, commenterName));
+                coalescedCounter.increment();
+                return;
+            }
+        }
+        String message = String.format("%s commented on task '%s'", commenterName, taskTitle);
+        createNotification(taskAssigneeId, message, Notification.Type.COMMENT_ADDED, taskId);
+    }
+
+    private LocalDateTime historyStart() {
+        return LocalDateTime.now().minus(history);
+    }
+
+    private static Counter writtenCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("pms.notifications.written")
+                .description("Notification events stored as a new row or merged into an existing one")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     /**
-     * Create notification for new comment
+     * Trim the look-ahead row; every row belongs to the current user, so the name is copied from it
      */
-    public void notifyNewComment(User taskAssignee, String commenterName, String taskTitle) {
-        if (taskAssignee != null) {
-            String message = String.format("%s commented on task '%s'", commenterName, taskTitle);
-            createNotification(taskAssignee.getId(), message);
+    private static CursorPage<NotificationDto> toPage(List<NotificationDto> notifications, int pageSize, User currentUser) {
+        boolean hasMore = notifications.size() > pageSize;
+        List<NotificationDto> items = hasMore ? notifications.subList(0, pageSize) : notifications;
+        String nextCursor = null;
+        if (hasMore) {
+            NotificationDto last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
         }
+        items.forEach(notification -> notification.setUserName(currentUser.getName()));
+        return new CursorPage<>(items, nextCursor, hasMore);
     }
 
     // Conversion methods
@@ -117,6 +238,10 @@ public class NotificationService {
         dto.setMessage(notification.getMessage());
         dto.setRead(notification.isRead());
         dto.setCreatedAt(notification.getCreatedAt());
+        dto.setType(NotificationDto.Type.valueOf(notification.getType().name()));
+        dto.setTaskId(notification.getTaskId());
+        dto.setEventCount(notification.getEventCount());
+        dto.setLastEventAt(notification.getLastEventAt());
         return dto;
     }
 } 
\ No newline at end of file
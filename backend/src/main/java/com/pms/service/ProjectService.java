@@ -1,8 +1,12 @@
 package com.pms.service;
 
+import com.pms.cache.CacheInvalidationBus;
+import com.pms.cache.CacheInvalidationEvent;
+import com.pms.dto.MergePatch;
 import com.pms.dto.ProjectDto;
 import com.pms.dto.TaskDto;
 import com.pms.dto.UserDto;
+import com.pms.entity.ChangeLogEntry;
 import com.pms.entity.Project;
 import com.pms.entity.ProjectMember;
 import com.pms.entity.Task;
@@ -12,29 +16,42 @@ import com.pms.repository.ProjectRepository;
 import com.pms.repository.TaskRepository;
 import com.pms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class ProjectService {
 
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "description", "startDate", "endDate", "visibility");
+
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TimeEntryService timeEntryService;
+    private final ChangeLogService changeLogService;
 
     @Autowired
     public ProjectService(ProjectRepository projectRepository, TaskRepository taskRepository,
-                          ProjectMemberRepository projectMemberRepository, UserRepository userRepository) {
+                          ProjectMemberRepository projectMemberRepository, UserRepository userRepository,
+                          CacheInvalidationBus cacheInvalidationBus, TimeEntryService timeEntryService,
+                          ChangeLogService changeLogService) {
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.projectMemberRepository = projectMemberRepository;
         this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.timeEntryService = timeEntryService;
+        this.changeLogService = changeLogService;
     }
 
     /**
@@ -42,6 +59,7 @@ public class ProjectService {
      * ADMIN: Can see all projects
      * USER: Can see their own projects + public projects
      */
+    @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects(User currentUser) {
         List<Project> projects;
 
@@ -61,6 +79,7 @@ public class ProjectService {
     /**
      * Get project by ID with access control
      */
+    @Transactional(readOnly = true)
     public Optional<ProjectDto> getProjectById(Long id, User currentUser) {
         Project project = projectRepository.findByIdWithTasks(id);
         if (project != null && canAccessProject(project, currentUser)) {
@@ -69,6 +88,15 @@ public class ProjectService {
         return Optional.empty();
     }
 
+    /**
+     * Get project by ID from the primary in a read-write transaction, so it reflects the latest committed
+     * version (for 409 responses). The self-call runs in this transaction, not a read-only one
+     */
+    @Transactional
+    public Optional<ProjectDto> getLatestProjectById(Long id, User currentUser) {
+        return getProjectById(id, currentUser);
+    }
+
     /**
      * Create a new project (creator is automatically set)
      */
@@ -80,14 +108,18 @@ public class ProjectService {
         // Automatically add creator as project member with OWNER role
         ProjectMember creatorMember = new ProjectMember(savedProject, currentUser, ProjectMember.Role.OWNER);
         projectMemberRepository.save(creatorMember);
+        changeLogService.record(ChangeLogEntry.EntityType.PROJECT, savedProject.getId(), savedProject,
+                ChangeLogEntry.Operation.CREATED);
+        cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT, savedProject.getId());
 
         return Optional.of(convertToDto(savedProject, currentUser));
     }
 
     /**
-     * Update an existing project (only creator or ADMIN can update)
+     * Update an existing project (only creator or ADMIN can update). Throws ObjectOptimisticLockingFailureException
+     * if expectedVersion is given and the project has moved on, or if it is changed concurrently
      */
-    public Optional<ProjectDto> updateProject(Long id, ProjectDto projectDto, User currentUser) {
+    public Optional<ProjectDto> updateProject(Long id, ProjectDto projectDto, Long expectedVersion, User currentUser) {
         Optional<Project> existingProject = projectRepository.findById(id);
         if (existingProject.isPresent()) {
             Project project = existingProject.get();
@@ -96,26 +128,80 @@ public class ProjectService {
             if (!canModifyProject(project, currentUser)) {
                 return Optional.empty();
             }
+            if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Project.class, id);
+            }
 
+            Project.Visibility previousVisibility = project.getVisibility();
             project.setName(projectDto.getName());
             project.setDescription(projectDto.getDescription());
             project.setStartDate(projectDto.getStartDate());
             project.setEndDate(projectDto.getEndDate());
             project.setVisibility(Project.Visibility.valueOf(projectDto.getVisibility()));
 
-            Project savedProject = projectRepository.save(project);
+            // Flush so a concurrent update fails here and the returned version is the new one
+            Project savedProject = projectRepository.saveAndFlush(project);
+            changeLogService.recordProjectUpdate(savedProject, previousVisibility);
+            cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT, savedProject.getId());
             return Optional.of(convertToDto(savedProject, currentUser));
         }
         return Optional.empty();
     }
 
+    /**
+     * Apply a JSON Merge Patch to a project (only creator or ADMIN can update): only the fields present
+     * are set, so with dynamic update the UPDATE only writes those columns. Throws IllegalArgumentException
+     * for an invalid patch and ObjectOptimisticLockingFailureException like updateProject
+     */
+    public Optional<ProjectDto> patchProject(Long id, MergePatch patch, Long expectedVersion, User currentUser) {
+        patch.requireOnly(PATCHABLE_FIELDS);
+        Optional<Project> existingProject = projectRepository.findById(id);
+        if (existingProject.isEmpty() || !canModifyProject(existingProject.get(), currentUser)) {
+            return Optional.empty();
+        }
+        Project project = existingProject.get();
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
+        }
+        Long previousVersion = project.getVersion();
+        Project.Visibility previousVisibility = project.getVisibility();
+
+        if (patch.has("name")) {
+            project.setName(patch.getRequiredText("name", 255));
+        }
+        if (patch.has("description")) {
+            project.setDescription(patch.getText("description"));
+        }
+        if (patch.has("startDate")) {
+            project.setStartDate(patch.getDate("startDate"));
+        }
+        if (patch.has("endDate")) {
+            project.setEndDate(patch.getDate("endDate"));
+        }
+        if (patch.has("visibility")) {
+            project.setVisibility(patch.getRequiredEnum("visibility", Project.Visibility.class));
+        }
+
+        // Flush so a concurrent update fails here and the returned version is the new one
+        Project savedProject = projectRepository.saveAndFlush(project);
+        // A patch that matches the current state writes nothing and leaves the version alone
+        if (!Objects.equals(savedProject.getVersion(), previousVersion)) {
+            changeLogService.recordProjectUpdate(savedProject, previousVisibility);
+            cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT, savedProject.getId());
+        }
+        return Optional.of(convertToDto(savedProject, currentUser));
+    }
+
     /**
      * Delete a project (only creator or ADMIN can delete)
      */
     public boolean deleteProject(Long id, User currentUser) {
         Optional<Project> project = projectRepository.findById(id);
         if (project.isPresent() && canModifyProject(project.get(), currentUser)) {
+            timeEntryService.removeTasksFromRollups(taskRepository.findIdsByProjectId(id));
+            changeLogService.record(ChangeLogEntry.EntityType.PROJECT, id, project.get(), ChangeLogEntry.Operation.DELETED);
             projectRepository.deleteById(id);
+            cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT, id);
             return true;
         }
         return false;
@@ -124,6 +210,7 @@ public class ProjectService {
     /**
      * Get project progress (percentage of completed tasks)
      */
+    @Transactional(readOnly = true)
     public Optional<ProjectDto> getProjectProgress(Long projectId, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -146,6 +233,7 @@ public class ProjectService {
     /**
      * Search projects by name with access control
      */
+    @Transactional(readOnly = true)
     public List<ProjectDto> searchProjects(String name, User currentUser) {
         List<Project> projects;
 
@@ -164,6 +252,7 @@ public class ProjectService {
     /**
      * Get project members
      */
+    @Transactional(readOnly = true)
     public List<UserDto> getProjectMembers(Long projectId, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -190,7 +279,8 @@ public class ProjectService {
 
             ProjectMember.Role memberRole = ProjectMember.Role.valueOf(role.toUpperCase());
             ProjectMember member = new ProjectMember(project.get(), user.get(), memberRole);
-            projectMemberRepository.save(member);
+            ProjectMember savedMember = projectMemberRepository.save(member);
+            cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT_MEMBER, savedMember.getId());
             return true;
         }
         return false;
@@ -211,12 +301,22 @@ public class ProjectService {
             Optional<ProjectMember> member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId);
             if (member.isPresent()) {
                 projectMemberRepository.delete(member.get());
+                cacheInvalidationBus.publish(CacheInvalidationEvent.EntityType.PROJECT_MEMBER, member.get().getId());
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Check whether the current user may view a project, e.g. before subscribing to its live updates
+     */
+    @Transactional(readOnly = true)
+    public boolean canViewProject(Long projectId, User currentUser) {
+        Optional<Project> project = projectRepository.findById(projectId);
+        return project.isPresent() && canAccessProject(project.get(), currentUser);
+    }
+
     /**
      * Check if user can access a project (view)
      */
@@ -257,6 +357,7 @@ public class ProjectService {
         dto.setEndDate(project.getEndDate());
         dto.setCreatedAt(project.getCreatedAt());
         dto.setUpdatedAt(project.getUpdatedAt());
+        dto.setVersion(project.getVersion());
 
         // Set creator information
         if (project.getCreator() != null) {
@@ -303,6 +404,8 @@ public class ProjectService {
         dto.setDueDate(task.getDueDate());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
+        dto.setRank(task.getRank());
 
         // Set assignee information
         if (task.getAssignedTo() != null) {
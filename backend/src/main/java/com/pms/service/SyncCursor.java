@@ -0,0 +1,82 @@
+package com.pms.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the change log, encoded as an opaque URL-safe token.
+ * Entries after (afterTx, afterId) in (tx_id, id) order are still to be read. While a client pages
+ * through a backlog, nextWatermark holds the snapshot xmin of the first page: once the backlog is
+ * drained the client restarts from it, so transactions still running during paging are read again.
+ */
+public final class SyncCursor {
+
+    private static final long UNSET = -1;
+
+    private final long afterTx;
+    private final long afterId;
+    private final long nextWatermark;
+    private final long issuedAt;
+
+    private SyncCursor(long afterTx, long afterId, long nextWatermark, long issuedAt) {
+        this.afterTx = afterTx;
+        this.afterId = afterId;
+        this.nextWatermark = nextWatermark;
+        this.issuedAt = issuedAt;
+    }
+
+    /**
+     * Cursor that reads everything written by transactions at or after the watermark
+     */
+    public static SyncCursor fromWatermark(long watermark, long issuedAt) {
+        return new SyncCursor(watermark, 0, UNSET, issuedAt);
+    }
+
+    /**
+     * Cursor that continues paging after the given entry
+     */
+    public static SyncCursor after(long tx, long id, long nextWatermark, long issuedAt) {
+        return new SyncCursor(tx, id, nextWatermark, issuedAt);
+    }
+
+    public String encode() {
+        String raw = afterTx + "." + afterId + "." + nextWatermark + "." + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a token produced by {@link #encode()}; throws IllegalArgumentException if malformed
+     */
+    public static SyncCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\.");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new SyncCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public long getAfterTx() {
+        return afterTx;
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+
+    public boolean hasNextWatermark() {
+        return nextWatermark != UNSET;
+    }
+
+    public long getNextWatermark() {
+        return nextWatermark;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+}
@@ -0,0 +1,252 @@
+package com.pms.service;
+
+import com.pms.dto.ChangeDto;
+import com.pms.dto.CommentDto;
+import com.pms.dto.MilestoneDto;
+import com.pms.dto.ProjectDto;
+import com.pms.dto.SyncResponse;
+import com.pms.dto.TaskDto;
+import com.pms.entity.ChangeLogEntry;
+import com.pms.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Delta sync feed over change_log. Each call returns the latest change per entity since the cursor,
+ * with the entity's current state loaded in one query per entity type. Entities that no longer exist
+ * or are no longer visible to the user are reported as DELETED.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    @Autowired
+    public SyncService(NamedParameterJdbcTemplate jdbcTemplate, @Value("${pms.sync.retention:30d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+    }
+
+    /**
+     * Get changes after the cursor, or just a starting cursor when since is null.
+     * Returns empty if the cursor is older than the change log retention; the client must reload in full.
+     * Throws IllegalArgumentException for a malformed cursor
+     */
+    public Optional<SyncResponse> getChanges(String since, Integer limit, User currentUser) {
+        long now = Instant.now().getEpochSecond();
+        SyncCursor cursor = since != null ? SyncCursor.decode(since) : null;
+        if (cursor != null && cursor.getIssuedAt() < now - retention.getSeconds()) {
+            return Optional.empty();
+        }
+        // Transactions at or after the snapshot xmin may still commit entries; the next full read restarts there
+        long watermark = Long.parseLong(jdbcTemplate.queryForObject(
+                "SELECT CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT)", new MapSqlParameterSource(), String.class));
+        if (cursor == null) {
+            return Optional.of(new SyncResponse(List.of(), SyncCursor.fromWatermark(watermark, now).encode(), false));
+        }
+        long nextWatermark = cursor.hasNextWatermark() ? cursor.getNextWatermark() : watermark;
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        boolean admin = currentUser.getRole() == User.Role.ADMIN;
+        String liveAccess = admin ? "p.id IS NOT NULL"
+                : "(p.creator_id = :userId OR p.visibility = 'PUBLIC')";
+        StringBuilder sql = new StringBuilder("SELECT c.id, CAST(c.tx_id AS TEXT) AS tx_id, c.entity_type, c.entity_id, ")
+                .append("c.project_id, c.operation, c.changed_at, COALESCE(").append(liveAccess).append(", FALSE) AS visible ")
+                .append("FROM change_log c LEFT JOIN projects p ON p.id = c.project_id ")
+                .append("WHERE (c.tx_id, c.id) > (CAST(CAST(:afterTx AS TEXT) AS xid8), :afterId)");
+        if (!admin) {
+            // Still visible, or visible when the change was made (so revoked or deleted projects are reported)
+            sql.append(" AND (p.creator_id = :userId OR p.visibility = 'PUBLIC' ")
+               .append("OR c.project_creator_id = :userId OR c.project_public)");
+        }
+        sql.append(" ORDER BY c.tx_id, c.id LIMIT :limit");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterTx", cursor.getAfterTx())
+                .addValue("afterId", cursor.getAfterId())
+                .addValue("userId", currentUser.getId())
+                .addValue("limit", pageSize + 1);
+        List<LogRow> rows = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new LogRow(
+                rs.getLong("id"), Long.parseLong(rs.getString("tx_id")),
+                ChangeLogEntry.EntityType.valueOf(rs.getString("entity_type")), rs.getLong("entity_id"),
+                rs.getLong("project_id"), ChangeLogEntry.Operation.valueOf(rs.getString("operation")),
+                rs.getTimestamp("changed_at").toLocalDateTime(), rs.getBoolean("visible")));
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        SyncCursor next = hasMore
+                ? SyncCursor.after(rows.get(rows.size() - 1).txId, rows.get(rows.size() - 1).id, nextWatermark, now)
+                : SyncCursor.fromWatermark(nextWatermark, now);
+        return Optional.of(new SyncResponse(toChanges(rows), next.encode(), hasMore));
+    }
+
+    /**
+     * Collapse entries to one per entity and attach the current state of visible entities
+     */
+    private List<ChangeDto> toChanges(List<LogRow> rows) {
+        Map<EntityKey, LogRow> latest = new LinkedHashMap<>();
+        Map<EntityKey, Boolean> created = new HashMap<>();
+        for (LogRow row : rows) {
+            EntityKey key = new EntityKey(row.entityType, row.entityId);
+            latest.remove(key);
+            latest.put(key, row);
+            created.merge(key, row.operation == ChangeLogEntry.Operation.CREATED, Boolean::logicalOr);
+        }
+
+        Map<ChangeLogEntry.EntityType, List<Long>> visibleIds = new EnumMap<>(ChangeLogEntry.EntityType.class);
+        for (LogRow row : latest.values()) {
+            if (row.visible) {
+                visibleIds.computeIfAbsent(row.entityType, type -> new ArrayList<>()).add(row.entityId);
+            }
+        }
+        Map<EntityKey, Object> states = new HashMap<>();
+        visibleIds.forEach((type, ids) -> loadStates(type, ids, states));
+
+        List<ChangeDto> changes = new ArrayList<>(latest.size());
+        for (Map.Entry<EntityKey, LogRow> entry : latest.entrySet()) {
+            LogRow row = entry.getValue();
+            Object state = states.get(entry.getKey());
+            String operation = state == null ? ChangeLogEntry.Operation.DELETED.name()
+                    : created.get(entry.getKey()) ? ChangeLogEntry.Operation.CREATED.name()
+                    : ChangeLogEntry.Operation.UPDATED.name();
+            changes.add(new ChangeDto(row.entityType.name(), row.entityId, row.projectId, operation, row.changedAt, state));
+        }
+        return changes;
+    }
+
+    private void loadStates(ChangeLogEntry.EntityType type, List<Long> ids, Map<EntityKey, Object> states) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        switch (type) {
+            case PROJECT -> jdbcTemplate.query(
+                    "SELECT p.id, p.name, p.description, p.start_date, p.end_date, p.visibility, p.creator_id, " +
+                    "u.name AS creator_name, p.created_at, p.updated_at, p.version " +
+                    "FROM projects p LEFT JOIN users u ON u.id = p.creator_id WHERE p.id IN (:ids)",
+                    params, collect(type, states, SyncService::mapProject));
+            case TASK -> jdbcTemplate.query(
+                    "SELECT t.id, t.project_id, t.title, t.description, t.priority, t.status, t.due_date, " +
+                    "t.board_rank, t.assigned_to_id, u.name AS assigned_to_name, t.created_at, t.updated_at, t.version " +
+                    "FROM tasks t LEFT JOIN users u ON u.id = t.assigned_to_id WHERE t.id IN (:ids)",
+                    params, collect(type, states, SyncService::mapTask));
+            case COMMENT -> jdbcTemplate.query(
+                    "SELECT c.id, c.task_id, t.title AS task_title, c.user_id, u.name AS user_name, u.email AS user_email, " +
+                    "c.text, c.created_at, c.updated_at " +
+                    "FROM comments c JOIN tasks t ON t.id = c.task_id JOIN users u ON u.id = c.user_id WHERE c.id IN (:ids)",
+                    params, collect(type, states, SyncService::mapComment));
+            case MILESTONE -> jdbcTemplate.query(
+                    "SELECT id, project_id, title, description, target_date, completed, created_at, updated_at, version " +
+                    "FROM milestones WHERE id IN (:ids)",
+                    params, collect(type, states, SyncService::mapMilestone));
+        }
+    }
+
+    private static <T> RowCallbackHandler collect(
+            ChangeLogEntry.EntityType type, Map<EntityKey, Object> states, RowMapper<T> mapper) {
+        return rs -> states.put(new EntityKey(type, rs.getLong("id")), mapper.mapRow(rs, 0));
+    }
+
+    private static ProjectDto mapProject(ResultSet rs, int rowNum) throws SQLException {
+        ProjectDto dto = new ProjectDto();
+        dto.setId(rs.getLong("id"));
+        dto.setName(rs.getString("name"));
+        dto.setDescription(rs.getString("description"));
+        dto.setStartDate(toLocalDate(rs.getDate("start_date")));
+        dto.setEndDate(toLocalDate(rs.getDate("end_date")));
+        dto.setVisibility(rs.getString("visibility"));
+        dto.setCreatorId(rs.getObject("creator_id", Long.class));
+        dto.setCreatorName(rs.getString("creator_name"));
+        dto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        dto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        dto.setVersion(rs.getLong("version"));
+        return dto;
+    }
+
+    private static TaskDto mapTask(ResultSet rs, int rowNum) throws SQLException {
+        TaskDto dto = new TaskDto();
+        dto.setId(rs.getLong("id"));
+        dto.setProjectId(rs.getLong("project_id"));
+        dto.setTitle(rs.getString("title"));
+        dto.setDescription(rs.getString("description"));
+        dto.setPriority(TaskDto.Priority.valueOf(rs.getString("priority")));
+        dto.setStatus(TaskDto.Status.valueOf(rs.getString("status")));
+        dto.setDueDate(toLocalDate(rs.getDate("due_date")));
+        dto.setRank(rs.getString("board_rank"));
+        dto.setAssignedToId(rs.getObject("assigned_to_id", Long.class));
+        dto.setAssignedToName(rs.getString("assigned_to_name"));
+        dto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        dto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        dto.setVersion(rs.getLong("version"));
+        return dto;
+    }
+
+    private static CommentDto mapComment(ResultSet rs, int rowNum) throws SQLException {
+        CommentDto dto = new CommentDto();
+        dto.setId(rs.getLong("id"));
+        dto.setTaskId(rs.getLong("task_id"));
+        dto.setTaskTitle(rs.getString("task_title"));
+        dto.setUserId(rs.getLong("user_id"));
+        dto.setUserName(rs.getString("user_name"));
+        dto.setUserEmail(rs.getString("user_email"));
+        dto.setText(rs.getString("text"));
+        dto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        dto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return dto;
+    }
+
+    private static MilestoneDto mapMilestone(ResultSet rs, int rowNum) throws SQLException {
+        MilestoneDto dto = new MilestoneDto();
+        dto.setId(rs.getLong("id"));
+        dto.setProjectId(rs.getLong("project_id"));
+        dto.setTitle(rs.getString("title"));
+        dto.setDescription(rs.getString("description"));
+        dto.setTargetDate(toLocalDate(rs.getDate("target_date")));
+        dto.setCompleted(rs.getBoolean("completed"));
+        dto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        dto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        dto.setVersion(rs.getLong("version"));
+        return dto;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record LogRow(long id, long txId, ChangeLogEntry.EntityType entityType, long entityId, long projectId,
+                          ChangeLogEntry.Operation operation, LocalDateTime changedAt, boolean visible) {
+    }
+
+    private record EntityKey(ChangeLogEntry.EntityType type, long id) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.pms.service;
+
+import com.pms.entity.Task;
+import com.pms.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodic respacing of board ranks. Moves into the same gap make ranks longer, and concurrent inserts
+ * at the end of a column can produce equal ranks; columns with a rank longer than max-length or with
+ * duplicates are respaced evenly, one column per transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "pms.tasks.rank.rebalance.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final Counter rebalancedCounter;
+
+    @Value("${pms.tasks.rank.rebalance.max-length:16}")
+    private int maxLength;
+
+    @Autowired
+    public TaskRankRebalancer(TaskRepository taskRepository, TaskService taskService, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.rebalancedCounter = Counter.builder("pms.tasks.rank.rebalanced")
+                .description("Tasks given a new rank by column rebalancing")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${pms.tasks.rank.rebalance.cron:0 15 * * * *}")
+    public void rebalance() {
+        long start = System.currentTimeMillis();
+        List<Object[]> columns = taskRepository.findColumnsToRebalance(maxLength);
+        long reranked = 0;
+        for (Object[] column : columns) {
+            int changed = taskService.rebalanceColumn((Long) column[0], (Task.Status) column[1], null);
+            reranked += changed;
+            rebalancedCounter.increment(changed);
+        }
+        if (!columns.isEmpty()) {
+            log.info("Rebalanced {} board columns ({} tasks re-ranked) in {} ms",
+                    columns.size(), reranked, System.currentTimeMillis() - start);
+        }
+    }
+}
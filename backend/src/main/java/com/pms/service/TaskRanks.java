@@ -0,0 +1,140 @@
+package com.pms.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic ranks that order tasks within a board column. A rank is a base-36 fraction written
+ * without the leading "0." or trailing zeros, so comparing ranks as strings (byte order, COLLATE "C")
+ * compares the fractions, and there is always another rank between two different ones. Moving a task
+ * only rewrites its own rank; ranks grow when one gap is split repeatedly, which rebalancing undoes.
+ */
+final class TaskRanks {
+
+    /** Longest rank the board_rank column holds */
+    static final int MAX_LENGTH = 64;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private TaskRanks() {}
+
+    /**
+     * A rank strictly between before and after, where null means the start or end of the column.
+     * Adding to either end steps the first digit that can be stepped, so ranks only grow every 35 tasks
+     */
+    static String between(String before, String after) {
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank " + before + " is not before " + after);
+        }
+        if (after == null) {
+            return before == null ? String.valueOf(DIGITS.charAt(BASE / 2)) : increment(before);
+        }
+        if (before == null) {
+            String decremented = decrement(after);
+            if (decremented != null) {
+                return decremented;
+            }
+        }
+        StringBuilder rank = new StringBuilder();
+        // While bounded the rank so far equals a prefix of after, so the next digit may not exceed after's
+        boolean bounded = true;
+        for (int i = 0; ; i++) {
+            int low = before != null && i < before.length() ? digit(before, i) : 0;
+            int high = BASE;
+            if (bounded) {
+                if (i >= after.length()) {
+                    throw new IllegalArgumentException("Invalid rank: " + after);
+                }
+                high = digit(after, i);
+            }
+            if (high - low > 1) {
+                return rank.append(DIGITS.charAt((low + high) / 2)).toString();
+            }
+            rank.append(DIGITS.charAt(low));
+            bounded = bounded && high == low;
+        }
+    }
+
+    /**
+     * count ranks in order strictly between before and after, split evenly so that none is much longer than needed
+     */
+    static List<String> between(String before, String after, int count) {
+        List<String> ranks = new ArrayList<>(count);
+        split(ranks, before, after, count);
+        return ranks;
+    }
+
+    /**
+     * count evenly spaced ranks of equal width, leaving a full digit of room between neighbours
+     */
+    static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space / (count + 1L) < BASE) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1L);
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(format(step * i, width));
+        }
+        return ranks;
+    }
+
+    private static void split(List<String> ranks, String before, String after, int count) {
+        if (count == 0) {
+            return;
+        }
+        String middle = between(before, after);
+        int left = (count - 1) / 2;
+        split(ranks, before, middle, left);
+        ranks.add(middle);
+        split(ranks, middle, after, count - 1 - left);
+    }
+
+    private static String increment(String rank) {
+        for (int i = 0; i < rank.length(); i++) {
+            int digit = digit(rank, i);
+            if (digit < BASE - 1) {
+                return rank.substring(0, i) + DIGITS.charAt(digit + 1);
+            }
+        }
+        return rank + DIGITS.charAt(1);
+    }
+
+    /**
+     * The shortest rank below the given one that steps down a digit, or null if every digit is 0 or 1
+     */
+    private static String decrement(String rank) {
+        for (int i = 0; i < rank.length(); i++) {
+            int digit = digit(rank, i);
+            if (digit > 1) {
+                return rank.substring(0, i) + DIGITS.charAt(digit - 1);
+            }
+        }
+        return null;
+    }
+
+    private static String format(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (digits[length - 1] == '0') {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static int digit(String rank, int index) {
+        int digit = DIGITS.indexOf(rank.charAt(index));
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank: " + rank);
+        }
+        return digit;
+    }
+}
@@ -1,47 +1,70 @@
 package com.pms.service;
 
+import com.pms.dto.BoardEventDto;
+import com.pms.dto.MergePatch;
 import com.pms.dto.TaskDto;
+import com.pms.dto.TaskMoveRequest;
+import com.pms.entity.ChangeLogEntry;
 import com.pms.entity.Project;
 import com.pms.entity.Task;
 import com.pms.entity.User;
+import com.pms.event.DomainEventBus;
+import com.pms.event.TaskAssignedEvent;
+import com.pms.event.TaskCreatedEvent;
 import com.pms.repository.ProjectRepository;
 import com.pms.repository.ProjectMemberRepository;
 import com.pms.repository.TaskRepository;
 import com.pms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class TaskService {
 
+    private static final Set<String> PATCHABLE_FIELDS =
+            Set.of("title", "description", "priority", "status", "dueDate", "assignedToId");
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
-    private final NotificationService notificationService;
+    private final DomainEventBus domainEventBus;
+    private final TimeEntryService timeEntryService;
+    private final ChangeLogService changeLogService;
+    private final BoardUpdatePublisher boardUpdatePublisher;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, UserRepository userRepository, ProjectMemberRepository projectMemberRepository, NotificationService notificationService) {
+    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, UserRepository userRepository, ProjectMemberRepository projectMemberRepository, DomainEventBus domainEventBus,
+                       TimeEntryService timeEntryService, ChangeLogService changeLogService,
+                       BoardUpdatePublisher boardUpdatePublisher) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.projectMemberRepository = projectMemberRepository;
-        this.notificationService = notificationService;
+        this.domainEventBus = domainEventBus;
+        this.timeEntryService = timeEntryService;
+        this.changeLogService = changeLogService;
+        this.boardUpdatePublisher = boardUpdatePublisher;
     }
 
     /**
      * Get all tasks for a project with access control
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksByProjectId(Long projectId, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
-            List<Task> tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
+            List<Task> tasks = taskRepository.findByProjectIdOrderByRankAscIdAsc(projectId);
             return tasks.stream()
                     .map(task -> convertToDto(task, currentUser))
                     .collect(Collectors.toList());
@@ -52,6 +75,7 @@ public class TaskService {
     /**
      * Get task by ID with access control
      */
+    @Transactional(readOnly = true)
     public Optional<TaskDto> getTaskById(Long id, User currentUser) {
         Optional<Task> task = taskRepository.findById(id);
         if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
@@ -60,6 +84,15 @@ public class TaskService {
         return Optional.empty();
     }
 
+    /**
+     * Get task by ID from the primary in a read-write transaction, so it reflects the latest committed
+     * version (for 409 responses). The self-call runs in this transaction, not a read-only one
+     */
+    @Transactional
+    public Optional<TaskDto> getLatestTaskById(Long id, User currentUser) {
+        return getTaskById(id, currentUser);
+    }
+
     /**
      * Create a new task with assignment logic
      */
@@ -68,60 +101,142 @@ public class TaskService {
         if (project.isPresent() && canModifyProject(project.get(), currentUser)) {
             Task task = convertToEntity(taskDto);
             task.setProject(project.get());
+            task.setRank(rankAtEnd(projectId, task.getStatus(), currentUser));
             
             // Set assignee based on logic
             User assignee = determineAssignee(taskDto, currentUser, project.get());
             task.setAssignedTo(assignee);
             
             Task savedTask = taskRepository.save(task);
+            recordChange(savedTask, ChangeLogEntry.Operation.CREATED);
             
-            // Send notification if task is assigned to someone other than the creator
-            if (assignee != null && !assignee.equals(currentUser)) {
-                notificationService.notifyTaskAssignment(assignee, savedTask.getTitle(), project.get().getName());
-            }
+            domainEventBus.publish(new TaskCreatedEvent(savedTask.getId(), project.get().getId(), currentUser.getId(), savedTask.getTitle()));
+            publishAssignment(savedTask, null, currentUser);
             
-            return Optional.of(convertToDto(savedTask, currentUser));
+            TaskDto dto = convertToDto(savedTask, currentUser);
+            boardUpdatePublisher.publishTask(BoardEventDto.Type.TASK_CREATED, dto, currentUser);
+            return Optional.of(dto);
         }
         return Optional.empty();
     }
 
     /**
-     * Update an existing task with permission checks
+     * Update an existing task with permission checks. Throws ObjectOptimisticLockingFailureException if
+     * expectedVersion is given and the task has moved on, or if it is changed concurrently
      */
-    public Optional<TaskDto> updateTask(Long id, TaskDto taskDto, User currentUser) {
+    public Optional<TaskDto> updateTask(Long id, TaskDto taskDto, Long expectedVersion, User currentUser) {
         Optional<Task> existingTask = taskRepository.findById(id);
         if (existingTask.isPresent() && canModifyTask(existingTask.get(), currentUser)) {
             Task task = existingTask.get();
+            checkVersion(task, expectedVersion);
+            Task.Status status = Task.Status.valueOf(taskDto.getStatus().name());
+            if (status != task.getStatus()) {
+                // A task changing column goes to the end of its new column
+                task.setRank(rankAtEnd(task.getProject().getId(), status, currentUser));
+            }
             task.setTitle(taskDto.getTitle());
             task.setDescription(taskDto.getDescription());
             task.setPriority(Task.Priority.valueOf(taskDto.getPriority().name()));
-            task.setStatus(Task.Status.valueOf(taskDto.getStatus().name()));
+            task.setStatus(status);
             task.setDueDate(taskDto.getDueDate());
             
-            // Update assignee if provided and user has permission
-            if (taskDto.getAssignedToId() != null && canAssignTask(task.getProject(), currentUser)) {
+            User previousAssignee = task.getAssignedTo();
+            // Update assignee if provided, changed and user has permission
+            if (taskDto.getAssignedToId() != null && !taskDto.getAssignedToId().equals(assigneeId(task))
+                    && canAssignTask(task.getProject(), currentUser)) {
                 Optional<User> assignee = userRepository.findById(taskDto.getAssignedToId());
                 assignee.ifPresent(task::setAssignedTo);
             }
             
-            Task savedTask = taskRepository.save(task);
-            return Optional.of(convertToDto(savedTask, currentUser));
+            // Flush so a concurrent update fails here and the returned version is the new one
+            Task savedTask = taskRepository.saveAndFlush(task);
+            recordChange(savedTask, ChangeLogEntry.Operation.UPDATED);
+            publishAssignment(savedTask, previousAssignee, currentUser);
+            TaskDto dto = convertToDto(savedTask, currentUser);
+            boardUpdatePublisher.publishTask(BoardEventDto.Type.TASK_UPDATED, dto, currentUser);
+            return Optional.of(dto);
         }
         return Optional.empty();
     }
 
     /**
-     * Update task status with permission checks
+     * Apply a JSON Merge Patch to a task: only the fields present are set, so with dynamic update the
+     * UPDATE only writes those columns, and the assignee is only looked up when assignedToId changes.
+     * A null assignedToId unassigns the task. Throws IllegalArgumentException for an invalid patch and
+     * ObjectOptimisticLockingFailureException like updateTask
      */
-    public Optional<TaskDto> updateTaskStatus(Long id, String statusString, User currentUser) {
+    public Optional<TaskDto> patchTask(Long id, MergePatch patch, Long expectedVersion, User currentUser) {
+        patch.requireOnly(PATCHABLE_FIELDS);
+        Optional<Task> existingTask = taskRepository.findById(id);
+        if (existingTask.isEmpty() || !canModifyTask(existingTask.get(), currentUser)) {
+            return Optional.empty();
+        }
+        Task task = existingTask.get();
+        checkVersion(task, expectedVersion);
+        Long previousVersion = task.getVersion();
+
+        if (patch.has("status")) {
+            Task.Status status = patch.getRequiredEnum("status", Task.Status.class);
+            if (status != task.getStatus()) {
+                // Ranked before any other change so the rank lookup does not flush a half-patched task
+                task.setRank(rankAtEnd(task.getProject().getId(), status, currentUser));
+                task.setStatus(status);
+            }
+        }
+        if (patch.has("title")) {
+            task.setTitle(patch.getRequiredText("title", 255));
+        }
+        if (patch.has("description")) {
+            task.setDescription(patch.getText("description"));
+        }
+        if (patch.has("priority")) {
+            task.setPriority(patch.getRequiredEnum("priority", Task.Priority.class));
+        }
+        if (patch.has("dueDate")) {
+            task.setDueDate(patch.getDate("dueDate"));
+        }
+
+        User previousAssignee = task.getAssignedTo();
+        Long assignedToId = patch.getLong("assignedToId");
+        if (patch.has("assignedToId") && !Objects.equals(assignedToId, assigneeId(task))
+                && canAssignTask(task.getProject(), currentUser)) {
+            task.setAssignedTo(assignedToId == null ? null : userRepository.findById(assignedToId)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found: " + assignedToId)));
+        }
+
+        // Flush so a concurrent update fails here and the returned version is the new one
+        Task savedTask = taskRepository.saveAndFlush(task);
+        TaskDto dto = convertToDto(savedTask, currentUser);
+        // A patch that matches the current state writes nothing and leaves the version alone
+        if (!Objects.equals(savedTask.getVersion(), previousVersion)) {
+            recordChange(savedTask, ChangeLogEntry.Operation.UPDATED);
+            publishAssignment(savedTask, previousAssignee, currentUser);
+            boardUpdatePublisher.publishTask(BoardEventDto.Type.TASK_UPDATED, dto, currentUser);
+        }
+        return Optional.of(dto);
+    }
+
+    /**
+     * Update task status with permission checks. Throws ObjectOptimisticLockingFailureException if
+     * expectedVersion is given and the task has moved on, or if it is changed concurrently
+     */
+    public Optional<TaskDto> updateTaskStatus(Long id, String statusString, Long expectedVersion, User currentUser) {
         Optional<Task> existingTask = taskRepository.findById(id);
         if (existingTask.isPresent() && canModifyTask(existingTask.get(), currentUser)) {
             try {
                 TaskDto.Status status = TaskDto.Status.valueOf(statusString.toUpperCase());
                 Task task = existingTask.get();
-                task.setStatus(Task.Status.valueOf(status.name()));
-                Task savedTask = taskRepository.save(task);
-                return Optional.of(convertToDto(savedTask, currentUser));
+                checkVersion(task, expectedVersion);
+                Task.Status newStatus = Task.Status.valueOf(status.name());
+                if (newStatus != task.getStatus()) {
+                    task.setRank(rankAtEnd(task.getProject().getId(), newStatus, currentUser));
+                }
+                task.setStatus(newStatus);
+                Task savedTask = taskRepository.saveAndFlush(task);
+                recordChange(savedTask, ChangeLogEntry.Operation.UPDATED);
+                TaskDto dto = convertToDto(savedTask, currentUser);
+                boardUpdatePublisher.publishTask(BoardEventDto.Type.TASK_STATUS_CHANGED, dto, currentUser);
+                return Optional.of(dto);
             } catch (IllegalArgumentException e) {
                 // Invalid status value
                 return Optional.empty();
@@ -130,13 +245,75 @@ public class TaskService {
         return Optional.empty();
     }
 
+    /**
+     * Move a task within its board column or into another one: right after previousTaskId, right before
+     * nextTaskId, or to the end of the column. Only the moved task is written, with a rank between its new
+     * neighbours. Throws IllegalArgumentException for an invalid move and ObjectOptimisticLockingFailureException
+     * like updateTask
+     */
+    public Optional<TaskDto> moveTask(Long id, TaskMoveRequest request, Long expectedVersion, User currentUser) {
+        if (request.getPreviousTaskId() != null && request.getNextTaskId() != null) {
+            throw new IllegalArgumentException("Give previousTaskId or nextTaskId, not both");
+        }
+        Optional<Task> existingTask = taskRepository.findById(id);
+        if (existingTask.isEmpty() || !canModifyTask(existingTask.get(), currentUser)) {
+            return Optional.empty();
+        }
+        Task task = existingTask.get();
+        checkVersion(task, expectedVersion);
+        Task.Status status = request.getStatus() != null ? Task.Status.valueOf(request.getStatus().name()) : task.getStatus();
+
+        String rank = rankBeside(task, status, request);
+        if (rank == null) {
+            // This gap has been split too often: respace the column and place the task again
+            rebalanceColumn(task.getProject().getId(), status, currentUser);
+            rank = rankBeside(task, status, request);
+        }
+        task.setStatus(status);
+        task.setRank(rank);
+        Task savedTask = taskRepository.saveAndFlush(task);
+        recordChange(savedTask, ChangeLogEntry.Operation.UPDATED);
+        TaskDto dto = convertToDto(savedTask, currentUser);
+        boardUpdatePublisher.publishTask(BoardEventDto.Type.TASK_MOVED, dto, currentUser);
+        return Optional.of(dto);
+    }
+
+    /**
+     * Respace the ranks of a board column evenly, keeping its order. Locks the column's tasks, and changed
+     * tasks get a new version like any other update; their new state is broadcast in one column event.
+     * actor is null for background rebalancing. Returns the number of tasks re-ranked
+     */
+    public int rebalanceColumn(Long projectId, Task.Status status, User actor) {
+        List<Task> column = taskRepository.findColumnForUpdate(projectId, status);
+        List<String> ranks = TaskRanks.evenlySpaced(column.size());
+        List<Task> changed = new ArrayList<>();
+        for (int i = 0; i < column.size(); i++) {
+            Task task = column.get(i);
+            if (!ranks.get(i).equals(task.getRank())) {
+                task.setRank(ranks.get(i));
+                recordChange(task, ChangeLogEntry.Operation.UPDATED);
+                changed.add(task);
+            }
+        }
+        if (!changed.isEmpty()) {
+            // Flush so the broadcast carries the incremented versions
+            taskRepository.flush();
+            boardUpdatePublisher.publishColumnRebalanced(projectId,
+                    changed.stream().map(task -> convertToDto(task, actor)).collect(Collectors.toList()), actor);
+        }
+        return changed.size();
+    }
+
     /**
      * Delete a task with permission checks
      */
     public boolean deleteTask(Long id, User currentUser) {
         Optional<Task> task = taskRepository.findById(id);
         if (task.isPresent() && canModifyTask(task.get(), currentUser)) {
+            timeEntryService.removeTasksFromRollups(List.of(id));
+            recordChange(task.get(), ChangeLogEntry.Operation.DELETED);
             taskRepository.deleteById(id);
+            boardUpdatePublisher.publishTaskDeleted(task.get().getProject().getId(), id, currentUser);
             return true;
         }
         return false;
@@ -145,6 +322,7 @@ public class TaskService {
     /**
      * Get tasks assigned to the current user
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksAssignedToMe(User currentUser) {
         List<Task> tasks = taskRepository.findByAssignedToOrderByDueDateAsc(currentUser);
         return tasks.stream()
@@ -155,6 +333,7 @@ public class TaskService {
     /**
      * Get tasks by status for a project with access control
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksByStatus(Long projectId, Task.Status status, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -169,6 +348,7 @@ public class TaskService {
     /**
      * Get tasks by priority for a project with access control
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksByPriority(Long projectId, Task.Priority priority, User currentUser) {
         Optional<Project> project = projectRepository.findById(projectId);
         if (project.isPresent() && canAccessProject(project.get(), currentUser)) {
@@ -183,6 +363,7 @@ public class TaskService {
     /**
      * Get overdue tasks with access control
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getOverdueTasks(User currentUser) {
         List<Task> tasks;
         if (currentUser.getRole() == User.Role.ADMIN) {
@@ -198,6 +379,7 @@ public class TaskService {
     /**
      * Get tasks due today with access control
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasksDueToday(User currentUser) {
         List<Task> tasks;
         if (currentUser.getRole() == User.Role.ADMIN) {
@@ -213,6 +395,7 @@ public class TaskService {
     /**
      * Get high priority tasks that are not completed with access control
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getHighPriorityIncompleteTasks(User currentUser) {
         List<Task> tasks;
         if (currentUser.getRole() == User.Role.ADMIN) {
@@ -248,6 +431,85 @@ public class TaskService {
         return currentUser;
     }
 
+    /**
+     * Announce a new assignee, unless the task is unassigned, unchanged or assigned to the current user
+     */
+    private void publishAssignment(Task task, User previousAssignee, User currentUser) {
+        User assignee = task.getAssignedTo();
+        if (assignee != null && !assignee.equals(previousAssignee) && !assignee.equals(currentUser)) {
+            domainEventBus.publish(new TaskAssignedEvent(task.getId(), task.getProject().getId(), assignee.getId(),
+                    currentUser.getId(), task.getTitle(), task.getProject().getName()));
+        }
+    }
+
+    /**
+     * A rank after the last task of a board column, respacing the column first if its ranks have grown too long.
+     * Call before changing the task, so the lookup does not flush it early
+     */
+    private String rankAtEnd(Long projectId, Task.Status status, User currentUser) {
+        String rank = TaskRanks.between(taskRepository.findLastRank(projectId, status), null);
+        if (rank.length() > TaskRanks.MAX_LENGTH) {
+            rebalanceColumn(projectId, status, currentUser);
+            rank = TaskRanks.between(taskRepository.findLastRank(projectId, status), null);
+        }
+        return rank;
+    }
+
+    /**
+     * A rank for the task next to the neighbour a move asks for, or null if that gap's ranks have grown too long
+     */
+    private String rankBeside(Task task, Task.Status status, TaskMoveRequest request) {
+        Long projectId = task.getProject().getId();
+        String before;
+        String after;
+        if (request.getPreviousTaskId() != null) {
+            before = neighbourRank(task, status, request.getPreviousTaskId());
+            after = taskRepository.findRankAfter(projectId, status, before, task.getId());
+        } else if (request.getNextTaskId() != null) {
+            after = neighbourRank(task, status, request.getNextTaskId());
+            before = taskRepository.findRankBefore(projectId, status, after, task.getId());
+        } else {
+            before = taskRepository.findLastRank(projectId, status);
+            after = null;
+        }
+        String rank = TaskRanks.between(before, after);
+        return rank.length() <= TaskRanks.MAX_LENGTH ? rank : null;
+    }
+
+    /**
+     * Rank of the task a move is placed against, which must be another task of the target column
+     */
+    private String neighbourRank(Task task, Task.Status status, Long neighbourId) {
+        return taskRepository.findByIdForShare(neighbourId)
+                .filter(neighbour -> !neighbour.getId().equals(task.getId()) && neighbour.getStatus() == status
+                        && neighbour.getProject().getId().equals(task.getProject().getId()))
+                .map(Task::getRank)
+                .orElseThrow(() -> new IllegalArgumentException("Task " + neighbourId + " is not in the target column"));
+    }
+
+    /**
+     * Current assignee ID without initializing the lazy assignee
+     */
+    private Long assigneeId(Task task) {
+        return task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+    }
+
+    /**
+     * Reject an update made against an older version of the task
+     */
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+    }
+
+    /**
+     * Record a task change for the delta sync feed
+     */
+    private void recordChange(Task task, ChangeLogEntry.Operation operation) {
+        changeLogService.record(ChangeLogEntry.EntityType.TASK, task.getId(), task.getProject(), operation);
+    }
+
     /**
      * Check if user can access a project
      */
@@ -363,6 +625,8 @@ public class TaskService {
         dto.setDueDate(task.getDueDate());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
+        dto.setRank(task.getRank());
         
         // Set assignee information
         if (task.getAssignedTo() != null) {
@@ -0,0 +1,58 @@
+package com.pms.service;
+
+import com.pms.repository.TimeEntryRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Nightly check that the time entry rollups still match time_entries. Any drift (e.g. from
+ * manual SQL or a bug in incremental maintenance) is overwritten with freshly summed values.
+ */
+@Component
+@ConditionalOnProperty(name = "pms.time-rollup.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class TimeEntryRollupReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeEntryRollupReconciler.class);
+
+    private final TimeEntryRollupRepository timeEntryRollupRepository;
+    private final Counter correctedCounter;
+
+    @Autowired
+    public TimeEntryRollupReconciler(TimeEntryRollupRepository timeEntryRollupRepository, MeterRegistry meterRegistry) {
+        this.timeEntryRollupRepository = timeEntryRollupRepository;
+        this.correctedCounter = Counter.builder("pms.time.rollup.corrected")
+                .description("Time entry rollup rows rewritten or removed by reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Recompute all rollups; new time entries wait on the table lock until this commits
+     */
+    @Scheduled(cron = "${pms.time-rollup.reconcile.cron:0 30 2 * * *}")
+    @Transactional
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        timeEntryRollupRepository.lockTimeEntries();
+
+        int corrected = timeEntryRollupRepository.reconcileTaskTotals()
+                + timeEntryRollupRepository.reconcileUserTotals()
+                + timeEntryRollupRepository.reconcileTaskUserTotals()
+                + timeEntryRollupRepository.reconcileUserDailyTotals()
+                + timeEntryRollupRepository.deleteOrphanedUserTotals()
+                + timeEntryRollupRepository.deleteOrphanedUserDailyTotals();
+
+        correctedCounter.increment(corrected);
+        if (corrected > 0) {
+            log.warn("Time entry rollup reconciliation corrected {} rows in {} ms", corrected, System.currentTimeMillis() - start);
+        } else {
+            log.info("Time entry rollups consistent ({} ms)", System.currentTimeMillis() - start);
+        }
+    }
+}
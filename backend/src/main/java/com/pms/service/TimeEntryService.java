@@ -1,18 +1,36 @@
 package com.pms.service;
 
+import com.pms.dto.TimeEntryBatchResponse;
+import com.pms.dto.TimeEntryBatchResultDto;
 import com.pms.dto.TimeEntryDto;
 import com.pms.entity.Task;
 import com.pms.entity.TimeEntry;
 import com.pms.entity.User;
+import com.pms.event.DomainEventBus;
+import com.pms.event.TimeLoggedEvent;
 import com.pms.repository.TaskRepository;
 import com.pms.repository.TimeEntryRepository;
+import com.pms.repository.TimeEntryRollupRepository;
 import com.pms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import com.pms.entity.Project;
 
@@ -23,12 +41,23 @@ public class TimeEntryService {
     private final TimeEntryRepository timeEntryRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TimeEntryRollupRepository timeEntryRollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventBus domainEventBus;
+
+    @Value("${pms.time-entries.batch.max-size:1000}")
+    private int maxBatchSize;
 
     @Autowired
-    public TimeEntryService(TimeEntryRepository timeEntryRepository, TaskRepository taskRepository, UserRepository userRepository) {
+    public TimeEntryService(TimeEntryRepository timeEntryRepository, TaskRepository taskRepository, UserRepository userRepository,
+                            TimeEntryRollupRepository timeEntryRollupRepository, JdbcTemplate jdbcTemplate,
+                            DomainEventBus domainEventBus) {
         this.timeEntryRepository = timeEntryRepository;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.timeEntryRollupRepository = timeEntryRollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.domainEventBus = domainEventBus;
     }
 
     /**
@@ -43,14 +72,98 @@ public class TimeEntryService {
             timeEntry.setHoursSpent(timeEntryDto.getHoursSpent());
             
             TimeEntry savedTimeEntry = timeEntryRepository.save(timeEntry);
+            addToRollups(savedTimeEntry);
+            domainEventBus.publish(new TimeLoggedEvent(taskId, currentUser.getId(), savedTimeEntry.getHoursSpent(), 1));
             return Optional.of(convertToDto(savedTimeEntry));
         }
         return Optional.empty();
     }
 
+    /**
+     * Ingest many time entries for the current user in one transaction.
+     * Access is checked once for all distinct tasks, accepted entries are written with a single
+     * multi-row INSERT, and entries whose idempotency key was already ingested are reported as duplicates.
+     * Throws IllegalArgumentException if the batch exceeds the maximum size or contains a null entry
+     */
+    public TimeEntryBatchResponse ingestTimeEntries(List<TimeEntryDto> entries, User currentUser) {
+        if (entries.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch exceeds " + maxBatchSize + " entries");
+        }
+        if (entries.contains(null)) {
+            throw new IllegalArgumentException("Batch entries must not be null");
+        }
+
+        Set<Long> taskIds = new HashSet<>();
+        for (TimeEntryDto entry : entries) {
+            if (entry.getTaskId() != null) {
+                taskIds.add(entry.getTaskId());
+            }
+        }
+        Set<Long> accessibleTaskIds = taskIds.isEmpty() ? Set.of() : new HashSet<>(
+                currentUser.getRole() == User.Role.ADMIN
+                        ? taskRepository.findExistingIds(taskIds)
+                        : taskRepository.findAccessibleIds(taskIds, currentUser, Project.Visibility.PUBLIC));
+
+        TimeEntryBatchResultDto[] results = new TimeEntryBatchResultDto[entries.size()];
+        // First occurrence of each key wins; repeats within the request are duplicates
+        Map<String, Integer> accepted = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < entries.size(); i++) {
+            TimeEntryDto entry = entries.get(i);
+            String key = entry.getIdempotencyKey();
+            String error = validateBatchEntry(entry, accessibleTaskIds, now);
+            if (error != null) {
+                results[i] = new TimeEntryBatchResultDto(i, key, TimeEntryBatchResultDto.Status.REJECTED, error);
+            } else if (accepted.containsKey(key)) {
+                results[i] = new TimeEntryBatchResultDto(i, key, TimeEntryBatchResultDto.Status.DUPLICATE, null);
+            } else {
+                accepted.put(key, i);
+            }
+        }
+
+        Set<String> insertedKeys = insertBatch(entries, accepted.values(), currentUser, now);
+
+        List<TimeEntryDto> inserted = new ArrayList<>();
+        for (Map.Entry<String, Integer> acceptedEntry : accepted.entrySet()) {
+            int index = acceptedEntry.getValue();
+            if (insertedKeys.contains(acceptedEntry.getKey())) {
+                results[index] = new TimeEntryBatchResultDto(index, acceptedEntry.getKey(), TimeEntryBatchResultDto.Status.CREATED, null);
+                inserted.add(entries.get(index));
+            } else {
+                results[index] = new TimeEntryBatchResultDto(index, acceptedEntry.getKey(), TimeEntryBatchResultDto.Status.DUPLICATE, null);
+            }
+        }
+        addBatchToRollups(inserted, currentUser, now);
+
+        int created = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        for (TimeEntryBatchResultDto result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case REJECTED -> rejected++;
+            }
+        }
+        return new TimeEntryBatchResponse(created, duplicates, rejected, List.of(results));
+    }
+
+    /**
+     * Remove the time entries of tasks about to be deleted from the rollups.
+     * Must be called in the deleting transaction, before the tasks are removed.
+     */
+    public void removeTasksFromRollups(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        timeEntryRollupRepository.subtractTasksFromUserTotals(taskIds);
+        timeEntryRollupRepository.subtractTasksFromUserDailyTotals(taskIds);
+    }
+
     /**
      * Get all time entries for a task
      */
+    @Transactional(readOnly = true)
     public List<TimeEntryDto> getTimeEntriesByTaskId(Long taskId, User currentUser) {
         Optional<Task> task = taskRepository.findById(taskId);
         if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
@@ -65,10 +178,11 @@ public class TimeEntryService {
     /**
      * Get time summary for a task (total hours spent)
      */
+    @Transactional(readOnly = true)
     public Double getTimeSummaryByTaskId(Long taskId, User currentUser) {
         Optional<Task> task = taskRepository.findById(taskId);
         if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
-            return timeEntryRepository.getTotalHoursByTaskId(taskId);
+            return timeEntryRollupRepository.getTotalHoursByTaskId(taskId);
         }
         return 0.0;
     }
@@ -76,6 +190,7 @@ public class TimeEntryService {
     /**
      * Get all time entries created by the current user
      */
+    @Transactional(readOnly = true)
     public List<TimeEntryDto> getTimeEntriesByCurrentUser(User currentUser) {
         List<TimeEntry> timeEntries = timeEntryRepository.findByUserIdWithTaskDetails(currentUser.getId());
         return timeEntries.stream()
@@ -86,6 +201,7 @@ public class TimeEntryService {
     /**
      * Get time entries for a task by the current user
      */
+    @Transactional(readOnly = true)
     public List<TimeEntryDto> getTimeEntriesByTaskIdAndCurrentUser(Long taskId, User currentUser) {
         Optional<Task> task = taskRepository.findById(taskId);
         if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
@@ -100,10 +216,11 @@ public class TimeEntryService {
     /**
      * Get total hours spent by current user on a task
      */
+    @Transactional(readOnly = true)
     public Double getTotalHoursByTaskIdAndCurrentUser(Long taskId, User currentUser) {
         Optional<Task> task = taskRepository.findById(taskId);
         if (task.isPresent() && canAccessTask(task.get(), currentUser)) {
-            return timeEntryRepository.getTotalHoursByTaskIdAndUserId(taskId, currentUser.getId());
+            return timeEntryRollupRepository.getTotalHoursByTaskIdAndUserId(taskId, currentUser.getId());
         }
         return 0.0;
     }
@@ -111,8 +228,98 @@ public class TimeEntryService {
     /**
      * Get total hours spent by current user across all tasks
      */
+    @Transactional(readOnly = true)
     public Double getTotalHoursByCurrentUser(User currentUser) {
-        return timeEntryRepository.getTotalHoursByUserId(currentUser.getId());
+        return timeEntryRollupRepository.getTotalHoursByUserId(currentUser.getId());
+    }
+
+    private static String validateBatchEntry(TimeEntryDto entry, Set<Long> accessibleTaskIds, LocalDateTime now) {
+        if (entry.getIdempotencyKey() == null || entry.getIdempotencyKey().isBlank()) {
+            return "Idempotency key is required";
+        }
+        if (entry.getIdempotencyKey().length() > 100) {
+            return "Idempotency key must be at most 100 characters";
+        }
+        if (entry.getHoursSpent() == null || entry.getHoursSpent() <= 0) {
+            return "Hours spent must be positive";
+        }
+        if (entry.getCreatedAt() != null && entry.getCreatedAt().isAfter(now)) {
+            return "Time entry cannot be in the future";
+        }
+        if (entry.getTaskId() == null || !accessibleTaskIds.contains(entry.getTaskId())) {
+            return "Task not found or access denied";
+        }
+        return null;
+    }
+
+    /**
+     * Insert the accepted entries in one statement, skipping keys this user already ingested;
+     * returns the keys that were actually inserted
+     */
+    private Set<String> insertBatch(List<TimeEntryDto> entries, Collection<Integer> indexes, User currentUser, LocalDateTime now) {
+        if (indexes.isEmpty()) {
+            return Set.of();
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO time_entries (task_id, user_id, hours_spent, created_at, idempotency_key) VALUES ");
+        List<Object> args = new ArrayList<>(indexes.size() * 5);
+        boolean first = true;
+        for (int index : indexes) {
+            TimeEntryDto entry = entries.get(index);
+            sql.append(first ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            first = false;
+            args.add(entry.getTaskId());
+            args.add(currentUser.getId());
+            args.add(entry.getHoursSpent());
+            args.add(Timestamp.valueOf(entry.getCreatedAt() != null ? entry.getCreatedAt() : now));
+            args.add(entry.getIdempotencyKey());
+        }
+        sql.append(" ON CONFLICT (user_id, idempotency_key) WHERE idempotency_key IS NOT NULL DO NOTHING RETURNING idempotency_key");
+        return new LinkedHashSet<>(jdbcTemplate.queryForList(sql.toString(), String.class, args.toArray()));
+    }
+
+    /**
+     * Account a batch of new entries in the rollups with one upsert per affected rollup row,
+     * locking rows in the same order as addToRollups
+     */
+    private void addBatchToRollups(List<TimeEntryDto> inserted, User currentUser, LocalDateTime now) {
+        if (inserted.isEmpty()) {
+            return;
+        }
+        Long userId = currentUser.getId();
+        // Sorted so concurrent writers lock the rows of each rollup table in the same order
+        Map<Long, double[]> byTask = new TreeMap<>();
+        Map<LocalDate, double[]> byDay = new TreeMap<>();
+        double totalHours = 0;
+        for (TimeEntryDto entry : inserted) {
+            LocalDate day = (entry.getCreatedAt() != null ? entry.getCreatedAt() : now).toLocalDate();
+            accumulate(byTask.computeIfAbsent(entry.getTaskId(), id -> new double[2]), entry.getHoursSpent());
+            accumulate(byDay.computeIfAbsent(day, d -> new double[2]), entry.getHoursSpent());
+            totalHours += entry.getHoursSpent();
+        }
+        timeEntryRollupRepository.addToUserTotal(userId, totalHours, inserted.size());
+        byTask.forEach((taskId, sum) -> timeEntryRollupRepository.addToTaskTotal(taskId, sum[0], (long) sum[1]));
+        byTask.forEach((taskId, sum) -> timeEntryRollupRepository.addToTaskUserTotal(taskId, userId, sum[0], (long) sum[1]));
+        byDay.forEach((day, sum) -> timeEntryRollupRepository.addToUserDailyTotal(userId, day, sum[0], (long) sum[1]));
+        byTask.forEach((taskId, sum) -> domainEventBus.publish(new TimeLoggedEvent(taskId, userId, sum[0], (int) sum[1])));
+    }
+
+    private static void accumulate(double[] sum, double hours) {
+        sum[0] += hours;
+        sum[1]++;
+    }
+
+    /**
+     * Account a new time entry in every rollup, in the same transaction as its insert.
+     * Rollup rows are always locked user, task, task-user, then daily, so writers cannot deadlock
+     */
+    private void addToRollups(TimeEntry timeEntry) {
+        Long taskId = timeEntry.getTask().getId();
+        Long userId = timeEntry.getUser().getId();
+        double hours = timeEntry.getHoursSpent();
+        timeEntryRollupRepository.addToUserTotal(userId, hours, 1);
+        timeEntryRollupRepository.addToTaskTotal(taskId, hours, 1);
+        timeEntryRollupRepository.addToTaskUserTotal(taskId, userId, hours, 1);
+        timeEntryRollupRepository.addToUserDailyTotal(userId, timeEntry.getCreatedAt().toLocalDate(), hours, 1);
     }
 
     /**
@@ -137,6 +344,7 @@ public class TimeEntryService {
         dto.setUserName(timeEntry.getUser().getName());
         dto.setHoursSpent(timeEntry.getHoursSpent());
         dto.setCreatedAt(timeEntry.getCreatedAt());
+        dto.setIdempotencyKey(timeEntry.getIdempotencyKey());
         return dto;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.pms.service;
+
+import com.pms.dto.MilestoneProgressDto;
+import com.pms.dto.TimelineDto;
+import com.pms.dto.TimelineMilestoneDto;
+import com.pms.dto.TimelineTaskDto;
+import com.pms.dto.UserDto;
+import com.pms.entity.Project;
+import com.pms.entity.User;
+import com.pms.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Timeline (Gantt) read model of a project: milestones, task spans and assignees in one read.
+ * Task bars run from the day the task was created to its due date.
+ * Every read returns a version; passing it back as since returns only rows written by transactions
+ * that had not committed when that version was taken (see V13__add_timeline_change_tracking.sql),
+ * together with the IDs of all rows in range so the client can drop deleted ones.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TimelineService {
+
+    private static final String SUMMARY_SQL =
+            "SELECT CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS version, " +
+            "m.total AS milestones_total, m.completed AS milestones_completed, " +
+            "t.total AS tasks_total, t.completed AS tasks_completed " +
+            "FROM (SELECT COUNT(*) AS total, COUNT(*) FILTER (WHERE completed) AS completed " +
+            "      FROM milestones WHERE project_id = :projectId) m, " +
+            "     (SELECT COUNT(*) AS total, COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed " +
+            "      FROM tasks WHERE project_id = :projectId) t";
+
+    private final ProjectRepository projectRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TimelineService(ProjectRepository projectRepository, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Get the timeline of a project, optionally limited to a date range (inclusive) and to changes
+     * after a version returned by an earlier read.
+     * Throws IllegalArgumentException for an invalid range
+     */
+    public Optional<TimelineDto> getTimeline(Long projectId, LocalDate from, LocalDate to, Long since, User currentUser) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        Optional<Project> project = projectRepository.findById(projectId);
+        if (project.isEmpty() || !canAccessProject(project.get(), currentUser)) {
+            return Optional.empty();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("since", since);
+
+        // The version is taken first: anything committed after it has change_xid >= version
+        TimelineDto timeline = jdbcTemplate.queryForObject(SUMMARY_SQL, params, (rs, rowNum) -> {
+            TimelineDto dto = new TimelineDto();
+            dto.setVersion(Long.parseLong(rs.getString("version")));
+            dto.setMilestoneProgress(new MilestoneProgressDto(projectId,
+                    rs.getLong("milestones_total"), rs.getLong("milestones_completed")));
+            dto.setTasksTotal(rs.getLong("tasks_total"));
+            dto.setTasksCompleted(rs.getLong("tasks_completed"));
+            return dto;
+        });
+        timeline.setProjectId(projectId);
+        timeline.setProjectName(project.get().getName());
+        timeline.setProjectStartDate(project.get().getStartDate());
+        timeline.setProjectEndDate(project.get().getEndDate());
+        timeline.setFrom(from);
+        timeline.setTo(to);
+        timeline.setSince(since);
+
+        // Bars overlap the range if they start before its end and end (or, without a due date, start) after its start
+        StringBuilder milestoneRange = new StringBuilder(" WHERE m.project_id = :projectId");
+        StringBuilder taskRange = new StringBuilder(" WHERE t.project_id = :projectId");
+        if (from != null) {
+            milestoneRange.append(" AND m.target_date >= :from");
+            taskRange.append(" AND COALESCE(t.due_date, CAST(t.created_at AS DATE)) >= :from");
+        }
+        if (to != null) {
+            milestoneRange.append(" AND m.target_date <= :to");
+            taskRange.append(" AND CAST(t.created_at AS DATE) <= :to");
+        }
+        String milestonesChanged = since != null ? " AND m.change_xid >= CAST(CAST(:since AS TEXT) AS xid8)" : "";
+        String tasksChanged = since != null ? " AND t.change_xid >= CAST(CAST(:since AS TEXT) AS xid8)" : "";
+
+        timeline.setMilestones(jdbcTemplate.query(
+                "SELECT m.id, m.title, m.target_date, m.completed FROM milestones m" + milestoneRange + milestonesChanged +
+                " ORDER BY m.target_date, m.id",
+                params, (rs, rowNum) -> new TimelineMilestoneDto(rs.getLong("id"), rs.getString("title"),
+                        rs.getDate("target_date").toLocalDate(), rs.getBoolean("completed"))));
+
+        Map<Long, UserDto> users = new LinkedHashMap<>();
+        List<TimelineTaskDto> tasks = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT t.id, t.title, t.status, t.priority, CAST(t.created_at AS DATE) AS start_date, t.due_date, " +
+                "u.id AS assignee_id, u.name AS assignee_name, u.email AS assignee_email, u.role AS assignee_role " +
+                "FROM tasks t LEFT JOIN users u ON u.id = t.assigned_to_id" + taskRange + tasksChanged +
+                " ORDER BY start_date, t.id",
+                params, rs -> {
+                    Long assigneeId = rs.getObject("assignee_id", Long.class);
+                    if (assigneeId != null && !users.containsKey(assigneeId)) {
+                        users.put(assigneeId, new UserDto(assigneeId, rs.getString("assignee_name"),
+                                rs.getString("assignee_email"), rs.getString("assignee_role")));
+                    }
+                    Date dueDate = rs.getDate("due_date");
+                    tasks.add(new TimelineTaskDto(rs.getLong("id"), rs.getString("title"), rs.getString("status"),
+                            rs.getString("priority"), rs.getDate("start_date").toLocalDate(),
+                            dueDate != null ? dueDate.toLocalDate() : null, assigneeId));
+                });
+        timeline.setTasks(tasks);
+        timeline.setUsers(users);
+
+        if (since != null) {
+            timeline.setMilestoneIds(jdbcTemplate.queryForList(
+                    "SELECT m.id FROM milestones m" + milestoneRange + " ORDER BY m.id", params, Long.class));
+            timeline.setTaskIds(jdbcTemplate.queryForList(
+                    "SELECT t.id FROM tasks t" + taskRange + " ORDER BY t.id", params, Long.class));
+        }
+        return Optional.of(timeline);
+    }
+
+    /**
+     * Check if user can access a project
+     */
+    private boolean canAccessProject(Project project, User currentUser) {
+        if (currentUser.getRole() == User.Role.ADMIN) {
+            return true;
+        }
+        return project.getCreator().equals(currentUser) || project.getVisibility() == Project.Visibility.PUBLIC;
+    }
+}
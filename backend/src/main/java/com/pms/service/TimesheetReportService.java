@@ -0,0 +1,247 @@
+package com.pms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pms.dto.TimesheetReportDto;
+import com.pms.dto.TimesheetRowDto;
+import com.pms.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Timesheet reports: hours in a date range grouped by any combination of project, task, user and week,
+ * computed by one GROUP BY over time_entries. Results are cached per parameter set for a short TTL.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TimesheetReportService {
+
+    public enum GroupBy {
+        PROJECT("p.id AS project_id, p.name AS project_name", "p.id, p.name", "p.name, p.id"),
+        TASK("t.id AS task_id, t.title AS task_title", "t.id, t.title", "t.title, t.id"),
+        USER("u.id AS user_id, u.name AS user_name", "u.id, u.name", "u.name, u.id"),
+        WEEK("CAST(date_trunc('week', te.created_at) AS DATE) AS week_start",
+             "CAST(date_trunc('week', te.created_at) AS DATE)", "week_start");
+
+        private final String select;
+        private final String group;
+        private final String order;
+
+        GroupBy(String select, String group, String order) {
+            this.select = select;
+            this.group = group;
+            this.order = order;
+        }
+
+        public static GroupBy parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown grouping: " + value);
+            }
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<ReportKey, TimesheetReportDto> reportCache;
+
+    @Autowired
+    public TimesheetReportService(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                  @Value("${pms.report.timesheet.cache-ttl:5m}") Duration cacheTtl,
+                                  @Value("${pms.report.timesheet.cache-max-size:500}") long cacheMaxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reportCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, reportCache, "timesheet-reports");
+    }
+
+    /**
+     * Build (or return a cached) report. Non-admin users only see hours on projects they created,
+     * public projects, and tasks assigned to them.
+     * Throws IllegalArgumentException for an invalid range or grouping
+     */
+    public TimesheetReportDto getReport(LocalDate from, LocalDate to, List<GroupBy> groupBy,
+                                        Long projectId, Long userId, User currentUser) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        List<GroupBy> dimensions = groupBy.stream().distinct().collect(Collectors.toList());
+        Long scopeUserId = currentUser.getRole() == User.Role.ADMIN ? null : currentUser.getId();
+        ReportKey key = new ReportKey(from, to, dimensions, projectId, userId, scopeUserId);
+        return reportCache.get(key, this::runReport);
+    }
+
+    /**
+     * Write a report as CSV: one column per grouping dimension, then total hours and entry count
+     */
+    public void writeCsv(TimesheetReportDto report, List<GroupBy> groupBy, Writer out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        List<Object> header = new ArrayList<>();
+        for (GroupBy dimension : groupBy.stream().distinct().toList()) {
+            switch (dimension) {
+                case PROJECT -> { header.add("project_id"); header.add("project_name"); }
+                case TASK -> { header.add("task_id"); header.add("task_title"); }
+                case USER -> { header.add("user_id"); header.add("user_name"); }
+                case WEEK -> header.add("week_start");
+            }
+        }
+        header.add("total_hours");
+        header.add("entry_count");
+        csv.writeRow(header.toArray());
+
+        for (TimesheetRowDto row : report.getRows()) {
+            List<Object> values = new ArrayList<>();
+            for (GroupBy dimension : groupBy.stream().distinct().toList()) {
+                switch (dimension) {
+                    case PROJECT -> { values.add(row.getProjectId()); values.add(row.getProjectName()); }
+                    case TASK -> { values.add(row.getTaskId()); values.add(row.getTaskTitle()); }
+                    case USER -> { values.add(row.getUserId()); values.add(row.getUserName()); }
+                    case WEEK -> values.add(row.getWeekStart());
+                }
+            }
+            values.add(row.getTotalHours());
+            values.add(row.getEntryCount());
+            csv.writeRow(values.toArray());
+        }
+        csv.flush();
+    }
+
+    private TimesheetReportDto runReport(ReportKey key) {
+        List<String> select = new ArrayList<>();
+        List<String> group = new ArrayList<>();
+        List<String> order = new ArrayList<>();
+        for (GroupBy dimension : key.groupBy) {
+            select.add(dimension.select);
+            group.add(dimension.group);
+            order.add(dimension.order);
+        }
+        select.add("SUM(te.hours_spent) AS total_hours");
+        select.add("COUNT(*) AS entry_count");
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", select))
+                .append(" FROM time_entries te")
+                .append(" JOIN tasks t ON t.id = te.task_id")
+                .append(" JOIN projects p ON p.id = t.project_id");
+        if (key.groupBy.contains(GroupBy.USER)) {
+            sql.append(" JOIN users u ON u.id = te.user_id");
+        }
+        // Half-open range so the whole last day is included and created_at stays sargable
+        sql.append(" WHERE te.created_at >= :fromTime AND te.created_at < :toTime");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromTime", key.from.atStartOfDay())
+                .addValue("toTime", key.to.plusDays(1).atStartOfDay());
+        if (key.projectId != null) {
+            sql.append(" AND p.id = :projectId");
+            params.addValue("projectId", key.projectId);
+        }
+        if (key.userId != null) {
+            sql.append(" AND te.user_id = :userId");
+            params.addValue("userId", key.userId);
+        }
+        if (key.scopeUserId != null) {
+            sql.append(" AND (p.creator_id = :scopeUserId OR p.visibility = 'PUBLIC' OR t.assigned_to_id = :scopeUserId)");
+            params.addValue("scopeUserId", key.scopeUserId);
+        }
+        if (!group.isEmpty()) {
+            sql.append(" GROUP BY ").append(String.join(", ", group));
+            sql.append(" ORDER BY ").append(String.join(", ", order));
+        }
+
+        List<TimesheetRowDto> rows = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> mapRow(rs, key.groupBy));
+        // Without grouping an empty range still returns one row whose SUM is null
+        rows.removeIf(row -> row.getEntryCount() == 0);
+        double totalHours = rows.stream().mapToDouble(TimesheetRowDto::getTotalHours).sum();
+
+        List<String> groupNames = key.groupBy.stream()
+                .map(dimension -> dimension.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        return new TimesheetReportDto(key.from, key.to, groupNames, rows, totalHours, LocalDateTime.now());
+    }
+
+    private static TimesheetRowDto mapRow(ResultSet rs, List<GroupBy> groupBy) throws SQLException {
+        TimesheetRowDto row = new TimesheetRowDto();
+        for (GroupBy dimension : groupBy) {
+            switch (dimension) {
+                case PROJECT -> {
+                    row.setProjectId(rs.getLong("project_id"));
+                    row.setProjectName(rs.getString("project_name"));
+                }
+                case TASK -> {
+                    row.setTaskId(rs.getLong("task_id"));
+                    row.setTaskTitle(rs.getString("task_title"));
+                }
+                case USER -> {
+                    row.setUserId(rs.getLong("user_id"));
+                    row.setUserName(rs.getString("user_name"));
+                }
+                case WEEK -> {
+                    Date weekStart = rs.getDate("week_start");
+                    row.setWeekStart(weekStart != null ? weekStart.toLocalDate() : null);
+                }
+            }
+        }
+        row.setTotalHours(rs.getDouble("total_hours"));
+        row.setEntryCount(rs.getLong("entry_count"));
+        return row;
+    }
+
+    /**
+     * Cache key: every parameter that changes the result, including whose access rules applied
+     */
+    private static final class ReportKey {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final List<GroupBy> groupBy;
+        private final Long projectId;
+        private final Long userId;
+        private final Long scopeUserId;
+
+        private ReportKey(LocalDate from, LocalDate to, List<GroupBy> groupBy, Long projectId, Long userId, Long scopeUserId) {
+            this.from = from;
+            this.to = to;
+            this.groupBy = List.copyOf(groupBy);
+            this.projectId = projectId;
+            this.userId = userId;
+            this.scopeUserId = scopeUserId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ReportKey)) return false;
+            ReportKey that = (ReportKey) o;
+            return from.equals(that.from) && to.equals(that.to) && groupBy.equals(that.groupBy)
+                    && Objects.equals(projectId, that.projectId) && Objects.equals(userId, that.userId)
+                    && Objects.equals(scopeUserId, that.scopeUserId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to, groupBy, projectId, userId, scopeUserId);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+-- Migration: V10__add_time_entry_rollups.sql
+-- Description: Pre-aggregated time entry totals per task, per user, per task and user, and per user and day
+-- Created: 2026-10-19
+
+-- Maintained incrementally by TimeEntryService and reconciled nightly against time_entries
+CREATE TABLE IF NOT EXISTS time_task_totals (
+    task_id BIGINT PRIMARY KEY REFERENCES tasks(id) ON DELETE CASCADE,
+    total_hours DOUBLE PRECISION NOT NULL DEFAULT 0,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS time_user_totals (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    total_hours DOUBLE PRECISION NOT NULL DEFAULT 0,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS time_task_user_totals (
+    task_id BIGINT NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    total_hours DOUBLE PRECISION NOT NULL DEFAULT 0,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (task_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS time_user_daily_totals (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    total_hours DOUBLE PRECISION NOT NULL DEFAULT 0,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, day)
+);
+
+-- Add indexes for performance
+CREATE INDEX IF NOT EXISTS idx_time_task_user_totals_user ON time_task_user_totals(user_id);
+
+-- Backfill from existing time entries
+INSERT INTO time_task_totals (task_id, total_hours, entry_count)
+SELECT task_id, SUM(hours_spent), COUNT(*) FROM time_entries GROUP BY task_id
+ON CONFLICT (task_id) DO NOTHING;
+
+INSERT INTO time_user_totals (user_id, total_hours, entry_count)
+SELECT user_id, SUM(hours_spent), COUNT(*) FROM time_entries GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
+
+INSERT INTO time_task_user_totals (task_id, user_id, total_hours, entry_count)
+SELECT task_id, user_id, SUM(hours_spent), COUNT(*) FROM time_entries GROUP BY task_id, user_id
+ON CONFLICT (task_id, user_id) DO NOTHING;
+
+INSERT INTO time_user_daily_totals (user_id, day, total_hours, entry_count)
+SELECT user_id, CAST(created_at AS DATE), SUM(hours_spent), COUNT(*) FROM time_entries GROUP BY user_id, CAST(created_at AS DATE)
+ON CONFLICT (user_id, day) DO NOTHING;
@@ -0,0 +1,9 @@
+-- Migration: V11__add_time_entry_report_index.sql
+-- Description: Covering index for timesheet reports over a created_at range
+-- Created: 2026-10-19
+
+-- Reports read only these columns, so range scans can be answered from the index alone
+CREATE INDEX IF NOT EXISTS idx_time_entries_created_covering ON time_entries(created_at) INCLUDE (task_id, user_id, hours_spent);
+
+-- Superseded by the covering index above
+DROP INDEX IF EXISTS idx_time_entries_created_at;
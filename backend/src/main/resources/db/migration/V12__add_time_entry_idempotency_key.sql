@@ -0,0 +1,9 @@
+-- Migration: V12__add_time_entry_idempotency_key.sql
+-- Description: Client idempotency keys so batch time entry ingestion can be retried safely
+-- Created: 2026-10-19
+
+ALTER TABLE time_entries ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100);
+
+-- A key identifies one entry per user; entries logged without a key are unaffected
+CREATE UNIQUE INDEX IF NOT EXISTS uq_time_entries_user_idempotency_key
+    ON time_entries(user_id, idempotency_key) WHERE idempotency_key IS NOT NULL;
@@ -0,0 +1,29 @@
+-- Migration: V13__add_timeline_change_tracking.sql
+-- Description: Record the writing transaction on tasks and milestones for incremental timeline reads
+-- Created: 2026-10-19
+
+-- change_xid is the ID of the last transaction that inserted or updated the row. A reader takes
+-- pg_snapshot_xmin(pg_current_snapshot()) as its version: every transaction below it has committed,
+-- so rows with change_xid >= version are exactly those that may have changed since.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_xid xid8;
+ALTER TABLE milestones ADD COLUMN IF NOT EXISTS change_xid xid8;
+
+CREATE OR REPLACE FUNCTION set_change_xid()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid = pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER set_tasks_change_xid
+    BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION set_change_xid();
+
+CREATE TRIGGER set_milestones_change_xid
+    BEFORE INSERT OR UPDATE ON milestones
+    FOR EACH ROW EXECUTE FUNCTION set_change_xid();
+
+-- Existing rows keep NULL: they appear in full reads and never in deltas
+CREATE INDEX IF NOT EXISTS idx_tasks_project_change_xid ON tasks(project_id, change_xid);
+CREATE INDEX IF NOT EXISTS idx_milestones_project_change_xid ON milestones(project_id, change_xid);
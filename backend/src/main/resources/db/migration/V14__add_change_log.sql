@@ -0,0 +1,21 @@
+-- Migration: V14__add_change_log.sql
+-- Description: Change log of projects, tasks, comments and milestones for the delta sync API
+-- Created: 2026-10-19
+
+-- Written by the services in the same transaction as the change. tx_id is the writing transaction:
+-- readers page by (tx_id, id) from a pg_snapshot_xmin watermark, so late commits are never skipped.
+-- No foreign keys: entries must outlive the entities they describe.
+CREATE TABLE IF NOT EXISTS change_log (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL CHECK (entity_type IN ('PROJECT', 'TASK', 'COMMENT', 'MILESTONE')),
+    entity_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL CHECK (operation IN ('CREATED', 'UPDATED', 'DELETED')),
+    project_creator_id BIGINT,
+    project_public BOOLEAN NOT NULL DEFAULT FALSE,
+    tx_id xid8 NOT NULL DEFAULT pg_current_xact_id(),
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_log_tx_id ON change_log(tx_id, id);
+CREATE INDEX IF NOT EXISTS idx_change_log_changed_at ON change_log(changed_at);
@@ -0,0 +1,20 @@
+-- Migration: V15__add_event_outbox.sql
+-- Description: Transactional outbox of domain events, one row per event and listener
+-- Created: 2026-10-19
+
+-- Rows are written in the transaction that causes the event and deleted once the listener has handled it.
+-- Relays claim due rows with FOR UPDATE SKIP LOCKED, so any number of backend instances can drain it.
+-- Rows that keep failing are parked with failed_at set and left for inspection.
+CREATE TABLE IF NOT EXISTS event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    listener VARCHAR(50) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    failed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending ON event_outbox(listener, id) WHERE failed_at IS NULL;
@@ -0,0 +1,104 @@
+-- Migration: V16__partition_notifications.sql
+-- Description: Monthly range partitioning of notifications by created_at, and an archive table for old notifications
+-- Created: 2026-10-19
+
+-- Keep the ID sequence when the unpartitioned table is dropped
+ALTER SEQUENCE notifications_id_seq OWNED BY NONE;
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+DROP INDEX IF EXISTS idx_notifications_user_id;
+DROP INDEX IF EXISTS idx_notifications_read_status;
+DROP INDEX IF EXISTS idx_notifications_created_at;
+DROP INDEX IF EXISTS idx_notifications_user_read;
+DROP INDEX IF EXISTS idx_notifications_user_created;
+DROP INDEX IF EXISTS idx_notifications_user_unread;
+
+-- The partition key must be part of the primary key
+CREATE TABLE notifications (
+    id BIGINT NOT NULL DEFAULT nextval('notifications_id_seq'),
+    user_id BIGINT NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    read_status BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_notifications PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE notifications_id_seq OWNED BY notifications.id;
+
+-- Keyset pages (newest first) of all and of unread notifications of a user
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread ON notifications(user_id, created_at DESC, id DESC)
+    WHERE read_status = FALSE;
+
+-- Catches rows outside the pre-created months, so inserts never fail if maintenance falls behind
+CREATE TABLE IF NOT EXISTS notifications_default PARTITION OF notifications DEFAULT;
+
+-- Create monthly partitions (notifications_YYYY_MM) from p_from up to p_months_ahead months after the current one.
+-- Rows already in the default partition for a new month are moved into it. Returns the number of partitions created
+CREATE OR REPLACE FUNCTION ensure_notification_partitions(p_from DATE, p_months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_from)::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => p_months_ahead))::date;
+    month_end DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        month_end := (month_start + INTERVAL '1 month')::date;
+        partition_name := 'notifications_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE notifications INCLUDING DEFAULTS)', partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM notifications_default WHERE created_at >= %L AND created_at < %L RETURNING *) ' ||
+                           'INSERT INTO %I SELECT * FROM moved', month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE notifications ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drop monthly partitions that end on or before p_before and hold no rows. Returns the number dropped
+CREATE OR REPLACE FUNCTION drop_empty_notification_partitions(p_before TIMESTAMP) RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    is_empty BOOLEAN;
+    dropped INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'notifications'::regclass
+          AND c.relname ~ '^notifications_[0-9]{4}_[0-9]{2}$'
+          AND to_date(substring(c.relname FROM 15), 'YYYY_MM') + INTERVAL '1 month' <= p_before
+    LOOP
+        EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', partition_name) INTO is_empty;
+        IF is_empty THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+            dropped := dropped + 1;
+        END IF;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_notification_partitions(
+    COALESCE((SELECT MIN(created_at) FROM notifications_unpartitioned)::date, CURRENT_DATE), 3);
+
+INSERT INTO notifications (id, user_id, message, read_status, created_at)
+SELECT id, user_id, message, read_status, created_at FROM notifications_unpartitioned;
+
+DROP TABLE notifications_unpartitioned;
+
+-- Old notifications moved out by the archive job; not read by the application
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    message VARCHAR(500) NOT NULL,
+    read_status BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_archive_user_created ON notifications_archive(user_id, created_at DESC);
@@ -0,0 +1,18 @@
+-- Migration: V17__add_notification_coalescing.sql
+-- Description: Notification type, task and event counter so repeated notifications can be merged into one row
+-- Created: 2026-10-19
+
+-- Unread notifications of the same type for the same user and task within the coalescing window are
+-- merged: event_count is incremented and last_event_at moved forward instead of inserting a new row
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS type VARCHAR(30) NOT NULL DEFAULT 'GENERAL';
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS task_id BIGINT REFERENCES tasks(id) ON DELETE SET NULL;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS event_count INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS last_event_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_coalesce ON notifications(user_id, task_id, type, created_at DESC)
+    WHERE read_status = FALSE AND task_id IS NOT NULL;
+
+ALTER TABLE notifications_archive ADD COLUMN IF NOT EXISTS type VARCHAR(30) NOT NULL DEFAULT 'GENERAL';
+ALTER TABLE notifications_archive ADD COLUMN IF NOT EXISTS task_id BIGINT;
+ALTER TABLE notifications_archive ADD COLUMN IF NOT EXISTS event_count INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE notifications_archive ADD COLUMN IF NOT EXISTS last_event_at TIMESTAMP;
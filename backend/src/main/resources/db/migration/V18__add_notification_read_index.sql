@@ -0,0 +1,11 @@
+-- Migration: V18__add_notification_read_index.sql
+-- Description: Index for notification listings filtered by read status and type
+-- Created: 2026-10-19
+
+-- Read/unread listings seek (user_id, read_status) and walk created_at backwards in keyset order; the type is
+-- included so a type filter is checked in the index instead of fetching rows that do not match
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created
+    ON notifications(user_id, read_status, created_at DESC, id DESC) INCLUDE (type);
+
+-- Superseded by the read_status = FALSE prefix of the index above
+DROP INDEX IF EXISTS idx_notifications_user_unread;
@@ -0,0 +1,9 @@
+-- Migration: V19__add_version_columns.sql
+-- Description: Version columns for optimistic locking of tasks, projects and milestones
+-- Created: 2026-10-19
+
+-- Hibernate increments version on every update and only updates rows still at the version it read,
+-- so concurrent edits fail with 409 instead of silently overwriting each other
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE milestones ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
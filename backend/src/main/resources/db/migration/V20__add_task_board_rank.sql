@@ -0,0 +1,30 @@
+-- Migration: V20__add_task_board_rank.sql
+-- Description: Board rank ordering tasks within each (project, status) column
+-- Created: 2026-10-19
+
+-- A rank is a base-36 fraction without the leading "0." or trailing zeros (see TaskRanks); byte-order
+-- collation makes string order match numeric order. Moving a task rewrites only its own rank.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS board_rank VARCHAR(64) COLLATE "C";
+
+-- Existing columns keep their creation order, spread evenly over six base-36 digits (36^6 = 2176782336)
+WITH ordered AS (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY project_id, status ORDER BY created_at, id) AS position,
+           COUNT(*) OVER (PARTITION BY project_id, status) AS total
+    FROM tasks
+)
+UPDATE tasks t
+SET board_rank = (
+    SELECT RTRIM(STRING_AGG(
+               SUBSTR('0123456789abcdefghijklmnopqrstuvwxyz',
+                      ((o.position * (2176782336 / (o.total + 1))) / POWER(36, 5 - d)::BIGINT % 36)::INT + 1, 1),
+               '' ORDER BY d), '0')
+    FROM GENERATE_SERIES(0, 5) AS d
+)
+FROM ordered o
+WHERE o.id = t.id;
+
+ALTER TABLE tasks ALTER COLUMN board_rank SET NOT NULL;
+
+-- Board order, neighbour lookups for moves and the last rank of a column are all range scans of this index
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_rank ON tasks (project_id, status, board_rank);
@@ -0,0 +1,8 @@
+-- Migration: V21__add_notification_task_index.sql
+-- Description: Index on notifications.task_id for the ON DELETE SET NULL foreign key
+-- Created: 2026-10-19
+
+-- Deleting a task nulls task_id in its notifications; without an index every notification partition is
+-- scanned per deleted task. Rows without a task are never looked up this way, so they are left out.
+-- Created on the partitioned parent, so existing and future partitions get the index.
+CREATE INDEX IF NOT EXISTS idx_notifications_task ON notifications(task_id) WHERE task_id IS NOT NULL;
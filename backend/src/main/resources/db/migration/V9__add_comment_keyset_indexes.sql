@@ -0,0 +1,11 @@
+-- Migration: V9__add_comment_keyset_indexes.sql
+-- Description: Support keyset pagination of comments ordered by (created_at DESC, id DESC)
+-- Created: 2026-10-19
+
+-- id breaks ties between comments created in the same microsecond so every row has a unique position
+CREATE INDEX IF NOT EXISTS idx_comments_task_created_id ON comments(task_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_comments_user_created_id ON comments(user_id, created_at DESC, id DESC);
+
+-- Superseded by the indexes above
+DROP INDEX IF EXISTS idx_comments_task_created;
+DROP INDEX IF EXISTS idx_comments_user_created;
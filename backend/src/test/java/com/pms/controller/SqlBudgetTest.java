@@ -0,0 +1,101 @@
+package com.pms.controller;
+
+import com.pms.entity.Comment;
+import com.pms.entity.Notification;
+import com.pms.entity.Project;
+import com.pms.entity.Task;
+import com.pms.entity.User;
+import com.pms.repository.CommentRepository;
+import com.pms.repository.NotificationRepository;
+import com.pms.repository.ProjectRepository;
+import com.pms.repository.TaskRepository;
+import com.pms.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static com.pms.monitoring.SqlBudgetAssertions.performWithinBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Checks endpoints against their @SqlBudget with several rows per page, so an N+1 query pattern exceeds the budget.
+ * The sync and timeline endpoints use PostgreSQL-only SQL and cannot run on H2.
+ */
+@SpringBootTest(properties = {
+        // The migrations use PostgreSQL-only SQL; H2 gets its schema from the entities
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlBudgetTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User owner;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        Project project = projectRepository.save(new Project("Budget", "SQL budget checks", null, null, owner));
+        task = new Task("Task", null, Task.Priority.MEDIUM, Task.Status.TODO, null, owner);
+        task.setProject(project);
+        task.setRank("i");
+        task = taskRepository.save(task);
+        for (int i = 0; i < ROWS; i++) {
+            // A different author per comment, so loading authors one by one would show up
+            commentRepository.save(new Comment(task, createUser(), "Comment " + i));
+            notificationRepository.save(new Notification(owner, "Notification " + i, Notification.Type.GENERAL, task.getId()));
+        }
+    }
+
+    @Test
+    void taskCommentsStayWithinBudget() throws Exception {
+        MvcResult result = performWithinBudget(mockMvc, get("/api/tasks/{taskId}/comments", task.getId()).with(user(owner)));
+        assertEquals(200, result.getResponse().getStatus());
+    }
+
+    @Test
+    void notificationsStayWithinBudget() throws Exception {
+        MvcResult result = performWithinBudget(mockMvc, get("/api/notifications").with(user(owner)));
+        assertEquals(200, result.getResponse().getStatus());
+    }
+
+    @Test
+    void unreadNotificationCountStaysWithinBudget() throws Exception {
+        MvcResult result = performWithinBudget(mockMvc, get("/api/notifications/unread-count").with(user(owner)));
+        assertEquals(200, result.getResponse().getStatus());
+    }
+
+    private User createUser() {
+        return userRepository.save(new User("Budget User", UUID.randomUUID() + "@example.com", "password"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.pms.monitoring;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Test utility that fails when a request issues more SQL statements than the @SqlBudget of its endpoint.
+ * The request runs in its own SqlStatementStats scope, which SqlMonitoringInterceptor leaves open,
+ * so the check does not depend on pms.sql.budget.fail-on-exceed.
+ */
+public final class SqlBudgetAssertions {
+
+    private SqlBudgetAssertions() {}
+
+    /**
+     * Perform the request and assert that it stayed within the budget declared on its handler method or controller.
+     * Fails if neither declares a budget, so a test cannot silently check against the default
+     */
+    public static MvcResult performWithinBudget(MockMvc mockMvc, RequestBuilder request) throws Exception {
+        SqlStatementStats.begin(Integer.MAX_VALUE, false);
+        MvcResult result;
+        SqlStatementStats stats;
+        try {
+            result = mockMvc.perform(request).andReturn();
+        } finally {
+            stats = SqlStatementStats.end();
+        }
+        if (stats == null) {
+            fail("SQL statement scope was closed during the request");
+        }
+        if (!(result.getHandler() instanceof HandlerMethod handlerMethod)) {
+            return fail("Request " + result.getRequest().getRequestURI() + " was not handled by a controller method");
+        }
+        SqlBudget budget = SqlMonitoringInterceptor.findBudget(handlerMethod);
+        if (budget == null) {
+            return fail(handlerMethod.getShortLogMessage() + " declares no @SqlBudget");
+        }
+        if (stats.getStatementCount() > budget.value()) {
+            fail(handlerMethod.getShortLogMessage() + " issued " + stats.getStatementCount()
+                    + " SQL statements, budget " + budget.value() + ". First statements: " + stats.getSampledStatements());
+        }
+        return result;
+    }
+}
@@ -17,11 +17,11 @@ const NotificationBell: React.FC = () => {
 
   const loadNotifications = async () => {
     try {
-      const [notificationsData, countData] = await Promise.all([
+      const [notificationsPage, countData] = await Promise.all([
         notificationApi.getUnread(),
         notificationApi.getUnreadCount()
       ]);
-      setNotifications(notificationsData);
+      setNotifications(notificationsPage.items);
       setUnreadCount(countData.unreadCount);
     } catch (error) {
       console.error('Error loading notifications:', error);
@@ -40,8 +40,15 @@ const NotificationBell: React.FC = () => {
   const handleMarkAllAsRead = async () => {
     setLoading(true);
     try {
-      await notificationApi.markAllAsRead();
-      await loadNotifications();
+      // Only mark what the user has seen; notifications with newer events stay unread
+      if (notifications.length > 0) {
+        const upTo = notifications
+          .map((notification) => notification.lastEventAt ?? notification.createdAt)
+          .reduce((latest, eventAt) => (eventAt > latest ? eventAt : latest));
+        const result = await notificationApi.markManyAsRead({ upTo });
+        setNotifications([]);
+        setUnreadCount(result.unreadCount);
+      }
       setShowDropdown(false);
     } catch (error) {
       console.error('Error marking all notifications as read:', error);
@@ -166,11 +166,18 @@ const ProjectDetail: React.FC = () => {
   const handleUpdateTaskStatus = async (taskId: number, status: Status) => {
     if (!project?.id) return;
     
+    const task = tasks.find(t => t.id === taskId);
     try {
-      await taskApi.updateStatus(taskId, status);
-      loadProjectData(project.id);
-    } catch (error) {
-      console.error('Error updating task status:', error);
+      const updated = await taskApi.updateStatus(taskId, status, task?.version);
+      setTasks(current => current.map(t => (t.id === taskId ? updated : t)));
+    } catch (error: any) {
+      if (error.response?.status === 409) {
+        // Someone else changed the task first; show their version
+        const latest: Task = error.response.data;
+        setTasks(current => current.map(t => (t.id === taskId ? latest : t)));
+      } else {
+        console.error('Error updating task status:', error);
+      }
     }
   };
 
@@ -26,6 +26,7 @@ const TaskDetailModal: React.FC<TaskDetailModalProps> = ({
   const [timeEntries, setTimeEntries] = useState<TimeEntry[]>([]);
   const [timeSummary, setTimeSummary] = useState<TimeSummary | null>(null);
   const [comments, setComments] = useState<Comment[]>([]);
+  const [commentsCursor, setCommentsCursor] = useState<string | null>(null);
   const [showTimeEntryForm, setShowTimeEntryForm] = useState(false);
   const [showCommentForm, setShowCommentForm] = useState(false);
   const [loading, setLoading] = useState(false);
@@ -48,7 +49,8 @@ const TaskDetailModal: React.FC<TaskDetailModalProps> = ({
       ]);
       setTimeEntries(timeData);
       setTimeSummary(timeSummaryData);
-      setComments(commentsData);
+      setComments(commentsData.items);
+      setCommentsCursor(commentsData.hasMore ? commentsData.nextCursor : null);
     } catch (error) {
       console.error('Error loading task data:', error);
     } finally {
@@ -56,6 +58,18 @@ const TaskDetailModal: React.FC<TaskDetailModalProps> = ({
     }
   };
 
+  const handleLoadOlderComments = async () => {
+    if (!task.id || !commentsCursor) return;
+
+    try {
+      const page = await commentApi.getByTaskId(task.id, commentsCursor);
+      setComments(prev => [...prev, ...page.items]);
+      setCommentsCursor(page.hasMore ? page.nextCursor : null);
+    } catch (error) {
+      console.error('Error loading comments:', error);
+    }
+  };
+
   const handleLogHours = () => {
     setShowTimeEntryForm(true);
   };
@@ -287,6 +301,14 @@ const TaskDetailModal: React.FC<TaskDetailModalProps> = ({
                   comments={comments}
                   onCommentUpdated={loadTaskData}
                 />
+                {commentsCursor && (
+                  <button
+                    className="jira-task-detail-comment-btn-new"
+                    onClick={handleLoadOlderComments}
+                  >
+                    <span>Load older comments</span>
+                  </button>
+                )}
               </div>
             </div>
           </div>
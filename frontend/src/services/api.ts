@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { Project, Task, Status, Priority, User, Milestone, TimeEntry, TimeSummary, Comment, Notification } from '../types';
+import { Project, Task, Status, Priority, User, Milestone, MilestoneProgress, TimeEntry, TimeSummary, Comment, CommentThread, CursorPage, Notification, TaskPatch, ProjectPatch, TaskMove } from '../types';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/api';
 
@@ -10,6 +10,8 @@ const api = axios.create({
   },
 });
 
+const MERGE_PATCH = { headers: { 'Content-Type': 'application/merge-patch+json' } };
+
 // Add request interceptor to include auth token
 api.interceptors.request.use(
   (config) => {
@@ -101,6 +103,12 @@ export const projectApi = {
     return response.data;
   },
 
+  // Sends only the changed fields; include version to get 409 instead of overwriting a newer change
+  patch: async (id: number, changes: ProjectPatch): Promise<Project> => {
+    const response = await api.patch(`/projects/${id}`, changes, MERGE_PATCH);
+    return response.data;
+  },
+
   delete: async (id: number): Promise<void> => {
     await api.delete(`/projects/${id}`);
   },
@@ -154,8 +162,21 @@ export const taskApi = {
     return response.data;
   },
 
-  updateStatus: async (id: number, status: Status): Promise<Task> => {
-    const response = await api.put(`/tasks/${id}/status`, { status });
+  // Sends only the changed fields; include version to get 409 instead of overwriting a newer change
+  patch: async (id: number, changes: TaskPatch): Promise<Task> => {
+    const response = await api.patch(`/tasks/${id}`, changes, MERGE_PATCH);
+    return response.data;
+  },
+
+  // Pass the task's version to get 409 (with the current task) instead of overwriting a newer change
+  updateStatus: async (id: number, status: Status, version?: number): Promise<Task> => {
+    const response = await api.put(`/tasks/${id}/status`, { status, version });
+    return response.data;
+  },
+
+  // Only the moved task is updated; include version to get 409 instead of overwriting a newer change
+  move: async (id: number, move: TaskMove): Promise<Task> => {
+    const response = await api.put(`/tasks/${id}/position`, move);
     return response.data;
   },
 
@@ -249,6 +270,12 @@ export const milestoneApi = {
     const response = await api.get(`/projects/${projectId}/milestones/progress`);
     return response.data;
   },
+
+  // Get milestone progress for many projects in one request, keyed by project ID
+  getProgressBatch: async (projectIds: number[]): Promise<Record<number, MilestoneProgress>> => {
+    const response = await api.get('/milestones/progress', { params: { projectIds: projectIds.join(',') } });
+    return response.data;
+  },
 };
 
 // Time Entry API calls
@@ -292,9 +319,15 @@ export const timeEntryApi = {
 
 // Comment API calls
 export const commentApi = {
-  // Get all comments for a task
-  getByTaskId: async (taskId: number): Promise<Comment[]> => {
-    const response = await api.get(`/tasks/${taskId}/comments`);
+  // Get a page of comments for a task (newest first)
+  getByTaskId: async (taskId: number, cursor?: string, limit?: number): Promise<CursorPage<Comment>> => {
+    const response = await api.get(`/tasks/${taskId}/comments`, { params: { cursor, limit } });
+    return response.data;
+  },
+
+  // Get a compact page of comments for a task (authors side-loaded once)
+  getThreadByTaskId: async (taskId: number, cursor?: string, limit?: number): Promise<CommentThread> => {
+    const response = await api.get(`/tasks/${taskId}/comments`, { params: { view: 'compact', cursor, limit } });
     return response.data;
   },
 
@@ -321,24 +354,28 @@ export const commentApi = {
     return response.data;
   },
 
-  // Get all comments by current user
-  getByCurrentUser: async (): Promise<Comment[]> => {
-    const response = await api.get('/users/me/comments');
+  // Get a page of comments by current user (newest first)
+  getByCurrentUser: async (cursor?: string, limit?: number): Promise<CursorPage<Comment>> => {
+    const response = await api.get('/users/me/comments', { params: { cursor, limit } });
     return response.data;
   },
 };
 
 // Notification API calls
 export const notificationApi = {
-  // Get all notifications for current user
-  getAll: async (): Promise<Notification[]> => {
-    const response = await api.get('/notifications');
+  // Get a page of notifications for current user (newest first)
+  getAll: async (
+    cursor?: string,
+    limit?: number,
+    filters?: { type?: Notification['type']; read?: boolean }
+  ): Promise<CursorPage<Notification>> => {
+    const response = await api.get('/notifications', { params: { cursor, limit, ...filters } });
     return response.data;
   },
 
-  // Get unread notifications for current user
-  getUnread: async (): Promise<Notification[]> => {
-    const response = await api.get('/notifications/unread');
+  // Get a page of unread notifications for current user (newest first)
+  getUnread: async (cursor?: string, limit?: number): Promise<CursorPage<Notification>> => {
+    const response = await api.get('/notifications/unread', { params: { cursor, limit } });
     return response.data;
   },
 
@@ -347,6 +384,14 @@ export const notificationApi = {
     await api.put(`/notifications/${notificationId}/read`);
   },
 
+  // Mark notifications as read in one request, by IDs or everything created up to a timestamp
+  markManyAsRead: async (
+    request: { ids: number[] } | { upTo: string }
+  ): Promise<{ updated: number; unreadCount: number }> => {
+    const response = await api.put('/notifications/read', request);
+    return response.data;
+  },
+
   // Mark all notifications as read
   markAllAsRead: async (): Promise<void> => {
     await api.put('/notifications/read-all');
@@ -13,6 +13,7 @@ export interface Project {
   endDate?: string;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
   creatorId?: number;
   creatorName?: string;
   visibility?: string;
@@ -30,10 +31,28 @@ export interface Task {
   dueDate?: string;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
+  // Position within the task's status column; sort a column by rank as plain strings (not localeCompare)
+  rank?: string;
   assignedToId?: number;
   assignedToName?: string;
 }
 
+// Place a task right after previousTaskId, right before nextTaskId, or at the end of the column
+export interface TaskMove {
+  status?: Status;
+  previousTaskId?: number;
+  nextTaskId?: number;
+  version?: number;
+}
+
+// JSON Merge Patch body: absent fields stay as they are, null clears a field
+export type MergePatch<T> = { [K in keyof T]?: T[K] | null } & { version?: number };
+
+export type TaskPatch = MergePatch<Pick<Task, 'title' | 'description' | 'priority' | 'status' | 'dueDate' | 'assignedToId'>>;
+
+export type ProjectPatch = MergePatch<Pick<Project, 'name' | 'description' | 'startDate' | 'endDate' | 'visibility'>>;
+
 export enum Priority {
   LOW = 'LOW',
   MEDIUM = 'MEDIUM',
@@ -51,6 +70,13 @@ export enum ProjectVisibility {
   PRIVATE = 'PRIVATE'
 }
 
+export interface MilestoneProgress {
+  projectId: number;
+  completed: number;
+  total: number;
+  progress: number;
+}
+
 export interface ProjectProgress {
   projectId: number;
   progress: number;
@@ -80,6 +106,7 @@ export interface Milestone {
   projectId: number;
   createdAt: string;
   updatedAt: string;
+  version?: number;
 }
 
 export interface TimeEntry {
@@ -110,6 +137,26 @@ export interface Comment {
   updatedAt: string;
 }
 
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export interface CommentSummary {
+  id: number;
+  userId: number;
+  text: string;
+  createdAt: string;
+  updatedAt: string;
+}
+
+export interface CommentThread extends CursorPage<CommentSummary> {
+  taskId: number;
+  taskTitle: string;
+  users: Record<number, User>;
+}
+
 export interface Notification {
   id: number;
   userId: number;
@@ -117,4 +164,8 @@ export interface Notification {
   message: string;
   read: boolean;
   createdAt: string;
+  type: 'GENERAL' | 'TASK_ASSIGNED' | 'COMMENT_ADDED';
+  taskId?: number;
+  eventCount: number;
+  lastEventAt?: string;
 } 
\ No newline at end of file